@@ -1,58 +1,327 @@
 package com.skillsage.config;
 
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.skillsage.exception.GeminiException;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Gemini client on a shared, pooled HTTP/2 {@link HttpClient}. Responses are
+ * parsed as a token stream that only materializes the {@code text} parts of
+ * the first candidate. {@link HttpRequest#timeout} only bounds the wait for
+ * response headers, so both calls also carry a deadline for the whole body.
+ */
 @Service
-@RequiredArgsConstructor
 public class GeminiService {
-	
-	private final RestTemplate restTemplate = new RestTemplate();
-    private final String GEMINI_API_URL = "https://generativelanguage.googleapis.com/v1beta/models/gemini-2.0-flash:generateContent";
 
-    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final JsonFactory jsonFactory = objectMapper.getFactory();
+    private HttpClient httpClient;
+    private ExecutorService streamReaders;
+    private ScheduledExecutorService deadlines;
+
     @Value("${gemini.api.key}")
     private String apiKey;
 
+    @Value("${gemini.api.base-url:https://generativelanguage.googleapis.com/v1beta}")
+    private String baseUrl;
+
+    @Value("${gemini.model:gemini-2.0-flash}")
+    private String model;
+
+    @Value("${gemini.connect-timeout-ms:5000}")
+    private long connectTimeoutMs;
+
+    @Value("${gemini.read-timeout-ms:60000}")
+    private long readTimeoutMs;
+
+    @Value("${gemini.stream-timeout-ms:120000}")
+    private long streamTimeoutMs;
+
+    @PostConstruct
+    public void init() {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        // Reading an SSE body blocks, so it must not tie up the client's own threads
+        streamReaders = Executors.newVirtualThreadPerTaskExecutor();
+        deadlines = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "gemini-deadline");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        deadlines.shutdownNow();
+        streamReaders.shutdownNow();
+    }
+
+    public String getModel() {
+        return model;
+    }
+
+    /**
+     * Blocking variant of {@link #generateResponseAsync(String)}.
+     *
+     * @throws GeminiException when the call fails or the provider returns an error status
+     */
     public String generateResponse(String prompt) {
-        String url = GEMINI_API_URL + "?key=" + apiKey;
+        try {
+            return generateResponseAsync(prompt).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof GeminiException gemini) {
+                throw gemini;
+            }
+            throw new GeminiException("Gemini request failed: " + e.getCause().getMessage(), e.getCause());
+        }
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
+    public CompletableFuture<String> generateResponseAsync(String prompt) {
+        return generateResponseAsync(prompt, null);
+    }
 
-        Map<String, Object> requestBody = Map.of(
-            "contents", new Object[] {
-                Map.of("parts", new Object[] {
-                    Map.of("text", prompt)
-                })
+    /**
+     * Like {@link #generateResponseAsync(String)}, but when a
+     * {@code responseSchema} is given the model is constrained to emit JSON
+     * matching it.
+     */
+    public CompletableFuture<String> generateResponseAsync(String prompt, Map<String, Object> responseSchema) {
+        HttpRequest request = HttpRequest.newBuilder(endpoint("generateContent"))
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody(prompt, responseSchema)))
+                .build();
+
+        // The byte-array handler completes only once the whole body has arrived,
+        // so the deadline below covers the full exchange
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(request,
+                HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<HttpResponse<byte[]>> bounded = exchange.copy()
+                .orTimeout(readTimeoutMs, TimeUnit.MILLISECONDS);
+        bounded.whenComplete((response, error) -> {
+            if (error != null) {
+                exchange.cancel(true);
+            }
+        });
+        return bounded.thenApply(response -> {
+            byte[] body = response.body();
+            if (response.statusCode() / 100 != 2) {
+                String error = new String(body, 0, Math.min(body.length, 2048), StandardCharsets.UTF_8);
+                throw new GeminiException(response.statusCode(), "Gemini returned "
+                        + response.statusCode() + ": " + error);
             }
-        );
+            try {
+                String text = extractText(new ByteArrayInputStream(body));
+                if (text == null) {
+                    // Blocked prompts and safety stops come back as 200 without candidates
+                    throw new GeminiException(response.statusCode(), "Gemini returned no candidates");
+                }
+                return text;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
 
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestBody, headers);
+    /**
+     * Calls {@code streamGenerateContent} over SSE and hands every text chunk to
+     * {@code onText} as it arrives, constrained to {@code responseSchema} when
+     * one is given. Completes with the full text. A failure
+     * after the first chunk is reported with status 200 so the scheduler does
+     * not retry a stream that has already been partly delivered. The body is
+     * read on its own virtual thread and closed once
+     * {@code gemini.stream-timeout-ms} has passed since the request was sent.
+     */
+    public CompletableFuture<String> streamResponseAsync(String prompt, Map<String, Object> responseSchema,
+            Consumer<String> onText) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(endpoint("streamGenerateContent") + "&alt=sse"))
+                .timeout(Duration.ofMillis(readTimeoutMs))
+                .header("Content-Type", "application/json")
+                .header("Accept", "text/event-stream")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(requestBody(prompt, responseSchema)))
+                .build();
 
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(streamTimeoutMs);
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
+                .thenApplyAsync(response -> {
+                    StringBuilder full = new StringBuilder();
+                    AtomicBoolean expired = new AtomicBoolean();
+                    InputStream stream = response.body();
+                    ScheduledFuture<?> timer = deadlines.schedule(() -> {
+                        expired.set(true);
+                        closeQuietly(stream);
+                    }, deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    try (InputStream body = stream) {
+                        if (response.statusCode() / 100 != 2) {
+                            String error = new String(body.readNBytes(2048), StandardCharsets.UTF_8);
+                            throw new GeminiException(response.statusCode(), "Gemini returned "
+                                    + response.statusCode() + ": " + error);
+                        }
+                        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            if (!line.startsWith("data:")) {
+                                continue;
+                            }
+                            try (JsonParser parser = jsonFactory.createParser(line.substring(5).trim())) {
+                                StringBuilder chunk = extractText(parser);
+                                if (chunk != null && !chunk.isEmpty()) {
+                                    full.append(chunk);
+                                    onText.accept(chunk.toString());
+                                }
+                            }
+                        }
+                        if (full.isEmpty()) {
+                            throw new GeminiException(response.statusCode(), "Gemini returned no candidates");
+                        }
+                        return full.toString();
+                    } catch (IOException e) {
+                        String reason = expired.get() ? "Gemini stream exceeded " + streamTimeoutMs + " ms"
+                                : "Gemini stream interrupted: " + e.getMessage();
+                        if (!full.isEmpty()) {
+                            throw new GeminiException(200, reason);
+                        }
+                        if (expired.get()) {
+                            throw new GeminiException(reason, e);
+                        }
+                        throw new UncheckedIOException(e);
+                    } finally {
+                        timer.cancel(false);
+                    }
+                }, streamReaders);
+    }
+
+    private static void closeQuietly(InputStream stream) {
         try {
-            ResponseEntity<Map> response = restTemplate.postForEntity(url, request, Map.class);
-            if (response.getStatusCode().is2xxSuccessful()) {
-                var candidates = (java.util.List<Map<String, Object>>) response.getBody().get("candidates");
-                if (candidates != null && !candidates.isEmpty()) {
-                    var content = (Map<String, Object>) candidates.get(0).get("content");
-                    var parts = (java.util.List<Map<String, Object>>) content.get("parts");
-                    return (String) parts.get(0).get("text");
+            stream.close();
+        } catch (IOException ignored) {
+            // The reader sees the stream as closed either way
+        }
+    }
+
+    private URI endpoint(String method) {
+        return URI.create(baseUrl + "/models/" + model + ":" + method + "?key=" + apiKey);
+    }
+
+    private byte[] requestBody(String prompt, Map<String, Object> responseSchema) {
+        Map<String, Object> requestBody = new LinkedHashMap<>();
+        requestBody.put("contents", List.of(
+            Map.of("parts", List.of(
+                Map.of("text", prompt)
+            ))
+        ));
+        if (responseSchema != null) {
+            requestBody.put("generationConfig", Map.of(
+                "responseMimeType", "application/json",
+                "responseSchema", responseSchema
+            ));
+        }
+        try {
+            return objectMapper.writeValueAsBytes(requestBody);
+        } catch (JsonProcessingException e) {
+            throw new GeminiException("Could not serialize Gemini request", e);
+        }
+    }
+
+    /**
+     * Streams {@code candidates[0].content.parts[*].text} out of a
+     * generateContent response, skipping every other subtree unparsed.
+     */
+    String extractText(InputStream body) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(body)) {
+            StringBuilder text = extractText(parser);
+            return text == null ? null : text.toString();
+        }
+    }
+
+    private StringBuilder extractText(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return null;
+        }
+        StringBuilder text = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("candidates".equals(field) && value == JsonToken.START_ARRAY) {
+                if (parser.nextToken() == JsonToken.START_OBJECT) {
+                    text = readCandidate(parser);
+                    while (parser.nextToken() != JsonToken.END_ARRAY) {
+                        parser.skipChildren();
+                    }
                 }
+            } else {
+                parser.skipChildren();
             }
-        } catch (Exception e) {
-            return "Error: " + e.getMessage();
         }
+        return text;
+    }
 
-        return "No response from Gemini.";
+    private StringBuilder readCandidate(JsonParser parser) throws IOException {
+        StringBuilder text = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!"content".equals(field) || value != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String contentField = parser.currentName();
+                JsonToken contentValue = parser.nextToken();
+                if (!"parts".equals(contentField) || contentValue != JsonToken.START_ARRAY) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                        String partField = parser.currentName();
+                        parser.nextToken();
+                        if ("text".equals(partField)) {
+                            text = text == null ? new StringBuilder() : text;
+                            text.append(parser.getText());
+                        } else {
+                            parser.skipChildren();
+                        }
+                    }
+                }
+            }
+        }
+        return text;
     }
 }
@@ -2,6 +2,7 @@ package com.skillsage.controller;
 
 import java.util.List;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -9,6 +10,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.skillsage.config.MessageResponse;
 import com.skillsage.dto.request.CheckSubmission;
@@ -16,8 +18,11 @@ import com.skillsage.dto.response.AIFeedbackSummary;
 import com.skillsage.dto.response.CheckSubmissionResponse;
 import com.skillsage.dto.response.CodeQualityCheck;
 import com.skillsage.dto.response.CodeSubmissionTimeSpaceComplexityResponse;
+import com.skillsage.dto.response.InterviewAnalysis;
 import com.skillsage.dto.response.PlagiarismResponse;
 import com.skillsage.service.AiServiceImpl;
+import com.skillsage.service.AiStreamingService;
+import com.skillsage.service.InterviewReportService;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,32 +32,55 @@ import lombok.RequiredArgsConstructor;
 public class AiServiceController {
 
 	private final AiServiceImpl service;
+	private final InterviewReportService interviewReportService;
+	private final AiStreamingService aiStreamingService;
 
 	@GetMapping("/detect-plagiarism/{id}")
 	public ResponseEntity<?> getPlagerimsResponse(@PathVariable(value = "id") Long id) {
-		List<PlagiarismResponse> res = service.detectPlagarism(id);
+		List<PlagiarismResponse> res = interviewReportService.getPlagiarism(id);
 		return ResponseEntity.ok(new MessageResponse("", res));
 	}
 
 	@GetMapping("/generate-summary/{id}")
 	public ResponseEntity<?> generateSummary(@PathVariable(value = "id") Long id) {
-		AIFeedbackSummary res = service.generateSummary(id);
+		AIFeedbackSummary res = interviewReportService.getSummary(id);
+		return ResponseEntity.ok(new MessageResponse("", res));
+	}
+
+	@GetMapping("/interview-analysis/{id}")
+	public ResponseEntity<?> getInterviewAnalysis(@PathVariable(value = "id") Long id) {
+		InterviewAnalysis res = service.getInterviewAnalysis(id);
 		return ResponseEntity.ok(new MessageResponse("", res));
 	}
 
 	@GetMapping("/generate-time-space-complexity/{id}")
 	public ResponseEntity<?> generateTimeSpaceComplexity(@PathVariable(value = "id") Long id) {
-		List<CodeSubmissionTimeSpaceComplexityResponse> list = service.getComplexityAnalysis(id);
+		List<CodeSubmissionTimeSpaceComplexityResponse> list = interviewReportService.getComplexity(id);
 		return ResponseEntity.ok(new MessageResponse("", list));
 	}
 
 	@GetMapping("/code-quaility-chek/{id}")
 	public ResponseEntity<?> getInterviews(@PathVariable(value = "id") Long id) {
-		List<CodeQualityCheck> list = service.generateCodeQualityCheckResponse(id);
+		List<CodeQualityCheck> list = interviewReportService.getCodeQuality(id);
 		return ResponseEntity.ok(new MessageResponse("", list));
 		
 	}
 	
+	@GetMapping(value = "/stream/generate-summary/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamSummary(@PathVariable(value = "id") Long id) {
+		return aiStreamingService.streamSummary(id);
+	}
+
+	@GetMapping(value = "/stream/generate-time-space-complexity/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamTimeSpaceComplexity(@PathVariable(value = "id") Long id) {
+		return aiStreamingService.streamComplexity(id);
+	}
+
+	@GetMapping(value = "/stream/code-quaility-chek/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamCodeQuality(@PathVariable(value = "id") Long id) {
+		return aiStreamingService.streamCodeQuality(id);
+	}
+
 	@PostMapping("/check-submission")
 	public ResponseEntity<?> checkSubmission(@RequestBody CheckSubmission request) {
 		CheckSubmissionResponse obj = service.checkSubmission(request);
@@ -4,12 +4,17 @@ import com.skillsage.config.MessageResponse;
 import com.skillsage.dto.request.CreateInterviewRequest;
 import com.skillsage.dto.request.UpdateInterviewRequest;
 import com.skillsage.dto.response.InterviewResponse;
+import com.skillsage.dto.response.PageResponse;
+import com.skillsage.entity.enums.InterviewStatus;
 import com.skillsage.service.IInterviewService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
@@ -32,6 +37,16 @@ public class InterviewController {
         return ResponseEntity.ok(new MessageResponse("", response));
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<?> getInterviewPage(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) InterviewStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to) {
+    	PageResponse<InterviewResponse> response = interviewService.getInterviewPage(cursor, size, status, from, to);
+        return ResponseEntity.ok(new MessageResponse("", response));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<?> getInterviewById(@PathVariable(value = "id") Long id) {
     	InterviewResponse response = interviewService.getInterviewById(id);
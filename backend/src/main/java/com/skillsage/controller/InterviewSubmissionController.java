@@ -1,18 +1,23 @@
 package com.skillsage.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.skillsage.config.MessageResponse;
 import com.skillsage.dto.request.InterviewSubmissionRequest;
 import com.skillsage.dto.response.InterviewSubmissionResponse;
+import com.skillsage.dto.response.PageResponse;
 import com.skillsage.entity.InterviewSubmission;
 import com.skillsage.service.InterviewSubmissionService;
 
@@ -34,6 +39,17 @@ public class InterviewSubmissionController {
     }
     
     
+    @GetMapping
+    ResponseEntity<?> getSubmissions(@RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String language) {
+        PageResponse<InterviewSubmissionResponse> response = submissionService.getSubmissionPage(cursor, size, from, to,
+                language);
+        return ResponseEntity.ok(new MessageResponse("", response));
+    }
+
     @GetMapping("/{id}")
     ResponseEntity<?> getSubmission(@PathVariable(value ="id")Long id) {
         InterviewSubmissionResponse response = submissionService.getSubmissionByRecruiter(id);
@@ -3,6 +3,7 @@ package com.skillsage.controller;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -16,12 +17,14 @@ import org.springframework.web.bind.annotation.RestController;
 import com.skillsage.config.MessageResponse;
 import com.skillsage.dto.request.CreateQuestionRequest;
 import com.skillsage.dto.request.QuestionGenerate;
+import com.skillsage.dto.response.PageResponse;
 import com.skillsage.dto.response.QuestionGenerateResponse;
 import com.skillsage.dto.response.QuestionResponse;
 import com.skillsage.entity.Question;
 import com.skillsage.exception.BadRequestException;
 import com.skillsage.repository.QuestionRepository;
 import com.skillsage.service.AiServiceImpl;
+import com.skillsage.util.Cursors;
 
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.RequestParam;
@@ -81,6 +84,15 @@ public class QuestionController {
 		return ResponseEntity.ok(new MessageResponse("", reslist));
 	}
 
+	@GetMapping("/page")
+	public ResponseEntity<?> getQuestionPage(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size, @RequestParam(required = false) String language) {
+		int pageSize = Cursors.pageSize(size);
+		List<Question> rows = questionRepo.findPage(Cursors.decode(cursor), language, Limit.of(pageSize + 1));
+		PageResponse<QuestionResponse> page = Cursors.page(rows, pageSize, Question::getId, this::toResponse);
+		return ResponseEntity.ok(new MessageResponse("", page));
+	}
+
 	@PostMapping("/generate")
 	public ResponseEntity<?> generateWithAi(@RequestBody QuestionGenerate request) {
 		QuestionGenerateResponse obj = aiServiceImpl.generateQuestionResponse(request.getPrompt());
@@ -0,0 +1,15 @@
+package com.skillsage.dto.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewAnalysis {
+	private AIFeedbackSummary summary;
+	private List<QuestionAnalysis> questions;
+}
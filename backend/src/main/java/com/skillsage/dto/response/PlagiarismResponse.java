@@ -2,8 +2,10 @@ package com.skillsage.dto.response;
 
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
 public class PlagiarismResponse {
     private double plagiarismChance;
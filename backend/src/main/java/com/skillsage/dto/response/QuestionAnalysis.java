@@ -0,0 +1,16 @@
+package com.skillsage.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuestionAnalysis {
+	private String questionName;
+	private String timeComplexity;
+	private String spaceComplexity;
+	private String quality;
+	private String correctness;
+}
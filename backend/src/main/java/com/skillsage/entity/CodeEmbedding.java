@@ -2,26 +2,48 @@ package com.skillsage.entity;
 
 import java.sql.Timestamp;
 
+import org.hibernate.annotations.ColumnTransformer;
+import org.hibernate.annotations.SQLInsert;
+import org.hibernate.jdbc.Expectation;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "code_embeddings")
+// HASH-partitioned by question_id, with per-partition HNSW indexes (db/migration V6)
+@Table(name = "code_embeddings", indexes = {
+        @Index(name = "idx_code_embeddings_question_candidate", columnList = "question_id, candidate_id"),
+        @Index(name = "uq_code_embeddings_submission_model", columnList = "question_submission_id, model_id, question_id",
+                unique = true),
+        @Index(name = "idx_code_embeddings_submitted_at_id", columnList = "submitted_at, id")
+})
+// A row for the same submission and model already exists when an embedding
+// job is replayed; the insert is skipped instead of failing the batch. Columns
+// are in the order Hibernate binds them: attributes alphabetically, id last
+@SQLInsert(sql = """
+        insert into code_embeddings (candidate_id, embedding, embedding_int8, embedding_scale, minhash_signature,
+                model_id, question_id, question_submission_id, id)
+        values (?, CAST(? AS vector), ?, ?, ?, ?, ?, ?, ?)
+        on conflict (question_submission_id, model_id, question_id) do nothing
+        """, verify = Expectation.None.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class CodeEmbedding {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "code_embeddings_seq")
+    @SequenceGenerator(name = "code_embeddings_seq", sequenceName = "code_embeddings_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "question_id", nullable = false)
@@ -30,9 +52,29 @@ public class CodeEmbedding {
     @Column(name = "candidate_id", nullable = false)
     private Long candidateId;
 
+    // Source submission; makes deferred embedding jobs idempotent
+    @Column(name = "question_submission_id")
+    private Long questionSubmissionId;
+
+    // Mapped through real[] so Hibernate reads and writes float[] natively
     @Column(name = "embedding", columnDefinition = "vector(768)")
+    @ColumnTransformer(read = "CAST(embedding AS real[])", write = "CAST(? AS vector)")
     private float[] embedding;
 
+    // int8 codes of the normalized embedding, used by the quantized index
+    @Column(name = "embedding_int8")
+    private byte[] embeddingInt8;
+
+    @Column(name = "embedding_scale")
+    private Float embeddingScale;
+
+    // MinHash signature of the winnowed structural fingerprints
+    @Column(name = "minhash_signature", columnDefinition = "integer[]")
+    private int[] minhashSignature;
+
+    @Column(name = "model_id")
+    private String modelId;
+
     @Column(name = "submitted_at", updatable = false, insertable = false)
     private Timestamp submittedAt;
 
@@ -5,13 +5,16 @@ import java.util.List;
 
 import com.skillsage.entity.enums.InterviewStatus;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OrderBy;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -20,12 +23,22 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        @Index(name = "idx_interview_recruiter_id", columnList = "recruiter_id, id"),
+        @Index(name = "idx_interview_recruiter_status_id", columnList = "recruiter_id, status, id"),
+        @Index(name = "idx_interview_recruiter_start_id", columnList = "recruiter_id, start_time, id"),
+        @Index(name = "idx_interview_candidate_id", columnList = "candidate_id, id"),
+        @Index(name = "idx_interview_candidate_status_id", columnList = "candidate_id, status, id"),
+        @Index(name = "idx_interview_status_start", columnList = "status, start_time"),
+        @Index(name = "idx_interview_status_end", columnList = "status, end_time")
+})
 public class Interview {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
     
     private String title;
+    @Column(columnDefinition = "text")
     private String description;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
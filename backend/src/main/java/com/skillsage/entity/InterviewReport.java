@@ -0,0 +1,74 @@
+package com.skillsage.entity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.skillsage.dto.response.AIFeedbackSummary;
+import com.skillsage.dto.response.CodeQualityCheck;
+import com.skillsage.dto.response.CodeSubmissionTimeSpaceComplexityResponse;
+import com.skillsage.dto.response.PlagiarismResponse;
+import com.skillsage.entity.enums.ReportStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Precomputed AI analysis of an interview submission. Each section is stored
+ * as JSON as soon as it is generated; a null section has not been computed
+ * yet.
+ */
+@Entity
+@Table(name = "interview_report")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InterviewReport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "interview_id", nullable = false, unique = true)
+    private Long interviewId;
+
+    @Enumerated(EnumType.STRING)
+    private ReportStatus status;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<PlagiarismResponse> plagiarism;
+
+    /**
+     * Bumped whenever new embeddings for one of the interview's questions
+     * invalidate the plagiarism section.
+     */
+    @Column(name = "plagiarism_revision", nullable = false)
+    private long plagiarismRevision;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<CodeSubmissionTimeSpaceComplexityResponse> complexity;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private List<CodeQualityCheck> codeQuality;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "jsonb")
+    private AIFeedbackSummary summary;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -8,8 +8,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -20,10 +22,14 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"interview_id", "candidate_id"}))
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"interview_id", "candidate_id"}), indexes = {
+        @Index(name = "idx_interview_submission_candidate_id", columnList = "candidate_id, id"),
+        @Index(name = "idx_interview_submission_submitted_at", columnList = "submitted_at")
+})
 public class InterviewSubmission {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "interview_submission_seq")
+    @SequenceGenerator(name = "interview_submission_seq", sequenceName = "interview_submission_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
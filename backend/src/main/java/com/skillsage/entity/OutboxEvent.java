@@ -0,0 +1,60 @@
+package com.skillsage.entity;
+
+import java.time.LocalDateTime;
+
+import com.skillsage.entity.enums.OutboxEventType;
+import com.skillsage.entity.enums.OutboxStatus;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Transactional outbox row: written in the same transaction as the change
+ * that needs follow-up work, then claimed and processed by the outbox worker.
+ */
+@Entity
+@Table(name = "outbox_event", indexes = @Index(name = "idx_outbox_event_status_available", columnList = "status, available_at"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxEventType type;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(columnDefinition = "text")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private OutboxStatus status;
+
+    private int attempts;
+
+    // Earliest time the event may be claimed; doubles as the lease expiry while PROCESSING
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "last_error", columnDefinition = "text")
+    private String lastError;
+
+    private LocalDateTime createdAt;
+}
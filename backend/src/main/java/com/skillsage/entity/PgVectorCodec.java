@@ -0,0 +1,25 @@
+package com.skillsage.entity;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Binary codec for the pgvector wire format produced by {@code vector_send}:
+ * an int16 dimension, an int16 reserved field, then big-endian float4 values.
+ * Native queries select {@code vector_send(embedding)} and bind {@code float[]}
+ * parameters (sent as {@code real[]} and cast to {@code vector}), so vectors
+ * never round-trip through their text form.
+ */
+public final class PgVectorCodec {
+
+	private PgVectorCodec() {
+	}
+
+	public static float[] decode(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		int dim = buffer.getShort() & 0xFFFF;
+		buffer.getShort();
+		float[] vector = new float[dim];
+		buffer.asFloatBuffer().get(vector);
+		return vector;
+	}
+}
@@ -4,13 +4,17 @@ import java.time.LocalDateTime;
 
 import com.skillsage.entity.enums.SubmissionStatus;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -19,9 +23,11 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = @Index(name = "idx_question_submission_submission_language", columnList = "interview_submission_id, language"))
 public class QuestionSubmission {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "question_submission_seq")
+	@SequenceGenerator(name = "question_submission_seq", sequenceName = "question_submission_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne
@@ -30,6 +36,7 @@ public class QuestionSubmission {
 	@ManyToOne
 	private Question question;
 	
+	@Column(columnDefinition = "text")
 	private String code;
 	private String language;
 
@@ -0,0 +1,6 @@
+package com.skillsage.entity.enums;
+
+public enum OutboxEventType {
+    INTERVIEW_REPORT,
+    EMBEDDING
+}
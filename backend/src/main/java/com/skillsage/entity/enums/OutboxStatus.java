@@ -0,0 +1,7 @@
+package com.skillsage.entity.enums;
+
+public enum OutboxStatus {
+    PENDING,
+    PROCESSING,
+    FAILED
+}
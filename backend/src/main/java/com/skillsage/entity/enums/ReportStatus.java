@@ -0,0 +1,7 @@
+package com.skillsage.entity.enums;
+
+public enum ReportStatus {
+    PENDING,
+    PARTIAL,
+    COMPLETED
+}
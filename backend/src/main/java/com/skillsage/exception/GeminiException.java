@@ -0,0 +1,23 @@
+package com.skillsage.exception;
+
+public class GeminiException extends RuntimeException {
+
+	private final int statusCode;
+
+	public GeminiException(int statusCode, String message) {
+		super(message);
+		this.statusCode = statusCode;
+	}
+
+	public GeminiException(String message, Throwable cause) {
+		super(message, cause);
+		this.statusCode = -1;
+	}
+
+	/**
+	 * HTTP status returned by the provider, or -1 for transport failures.
+	 */
+	public int getStatusCode() {
+		return statusCode;
+	}
+}
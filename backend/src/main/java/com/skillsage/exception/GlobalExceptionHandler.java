@@ -38,6 +38,26 @@ public class GlobalExceptionHandler {
 		return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
 	}
 
+	@ExceptionHandler(GeminiException.class)
+	public ResponseEntity<ExceptionResponse> handleGeminiExceptions(GeminiException ex, HttpServletRequest request) {
+		HttpStatus status = ex.getStatusCode() == 429 ? HttpStatus.TOO_MANY_REQUESTS : HttpStatus.SERVICE_UNAVAILABLE;
+		ExceptionResponse response = ExceptionResponse.builder().timestamp(LocalDateTime.now())
+				.status(status.value()).error("AI Service Unavailable").message(ex.getMessage())
+				.path(request.getRequestURI()).stackTrace(getStackTraceAsString(ex)).build();
+
+		return new ResponseEntity<>(response, status);
+	}
+
+	@ExceptionHandler(DependencyUnavailableException.class)
+	public ResponseEntity<ExceptionResponse> handleDependencyUnavailableExceptions(DependencyUnavailableException ex,
+			HttpServletRequest request) {
+		ExceptionResponse response = ExceptionResponse.builder().timestamp(LocalDateTime.now())
+				.status(HttpStatus.SERVICE_UNAVAILABLE.value()).error("Service Unavailable").message(ex.getMessage())
+				.path(request.getRequestURI()).stackTrace(getStackTraceAsString(ex)).build();
+
+		return new ResponseEntity<>(response, HttpStatus.SERVICE_UNAVAILABLE);
+	}
+
 	@ExceptionHandler(Exception.class)
 	public ResponseEntity<ExceptionResponse> handleAllOtherExceptions(Exception ex, HttpServletRequest request) {
 
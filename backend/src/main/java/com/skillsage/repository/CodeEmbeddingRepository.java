@@ -1,5 +1,6 @@
 package com.skillsage.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,19 +13,83 @@ import com.skillsage.entity.CodeEmbedding;
 @Repository
 public interface CodeEmbeddingRepository extends JpaRepository<CodeEmbedding, Long> {
 
+    /**
+     * Keyset page of embeddings for index warm-up. When {@code quantized} is set
+     * the full vector is only returned for rows without stored int8 codes.
+     */
     @Query(value = """
-        SELECT * FROM code_embeddings
-        WHERE question_id = :questionId
-        AND candidate_id != :candidateId
-        ORDER BY embedding <=> CAST(:vector AS vector)
+        SELECT id, question_id, candidate_id,
+               CASE WHEN :quantized AND embedding_int8 IS NOT NULL THEN NULL ELSE vector_send(embedding) END,
+               embedding_int8, embedding_scale, submitted_at
+        FROM code_embeddings
+        WHERE id > :cursor
+        ORDER BY id
         LIMIT :limit
     """, nativeQuery = true)
-    List<CodeEmbedding> findSimilarEmbeddings(
-    	    @Param("questionId") Long questionId,
-    	    @Param("candidateId") Long candidateId,
-    	    @Param("vector") String embeddingVector,
-    	    @Param("limit") int limit
-    	);
-    
+    List<Object[]> findEmbeddingPageAfter(@Param("cursor") long cursor, @Param("limit") int limit,
+            @Param("quantized") boolean quantized);
+
+    /**
+     * Same row shape as {@link #findEmbeddingPageAfter}, for specific ids.
+     */
+    @Query(value = """
+        SELECT id, question_id, candidate_id,
+               CASE WHEN :quantized AND embedding_int8 IS NOT NULL THEN NULL ELSE vector_send(embedding) END,
+               embedding_int8, embedding_scale, submitted_at
+        FROM code_embeddings
+        WHERE id IN (:ids)
+    """, nativeQuery = true)
+    List<Object[]> findEmbeddingRowsByIds(@Param("ids") List<Long> ids, @Param("quantized") boolean quantized);
+
+    /**
+     * (id, question_id, submitted_at) of rows written after the given position,
+     * keyset-paged on (submitted_at, id). Used to pick up rows written by other
+     * instances.
+     */
+    @Query(value = """
+        SELECT id, question_id, submitted_at
+        FROM code_embeddings
+        WHERE (submitted_at, id) > (:afterTime, :afterId)
+        ORDER BY submitted_at, id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Object[]> findWrittenAfter(@Param("afterTime") LocalDateTime afterTime, @Param("afterId") long afterId,
+            @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT id, question_id, candidate_id, minhash_signature, submitted_at
+        FROM code_embeddings
+        WHERE id > :cursor
+        AND minhash_signature IS NOT NULL
+        ORDER BY id
+        LIMIT :limit
+    """, nativeQuery = true)
+    List<Object[]> findSignaturePageAfter(@Param("cursor") long cursor, @Param("limit") int limit);
+
+    @Query(value = """
+        SELECT id, question_id, candidate_id, minhash_signature, submitted_at
+        FROM code_embeddings
+        WHERE id IN (:ids)
+        AND minhash_signature IS NOT NULL
+    """, nativeQuery = true)
+    List<Object[]> findSignaturesByIds(@Param("ids") List<Long> ids);
+
+    @Query(value = "SELECT id, vector_send(embedding) FROM code_embeddings WHERE id IN (:ids)", nativeQuery = true)
+    List<Object[]> findVectorsByIds(@Param("ids") List<Long> ids);
+
+    @Query("""
+        SELECT e.questionSubmissionId FROM CodeEmbedding e
+        WHERE e.questionSubmissionId IN :ids AND e.modelId = :modelId
+    """)
+    List<Long> findEmbeddedQuestionSubmissionIds(@Param("ids") List<Long> questionSubmissionIds,
+            @Param("modelId") String modelId);
+
+    /**
+     * The given ids that were actually written; an insert that hits an existing
+     * row for the same submission and model is skipped without an error.
+     */
+    @Query("SELECT e.id FROM CodeEmbedding e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") List<Long> ids);
+
  }
 
@@ -0,0 +1,75 @@
+package com.skillsage.repository;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.skillsage.entity.InterviewReport;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface InterviewReportRepository extends JpaRepository<InterviewReport, Long> {
+    Optional<InterviewReport> findByInterviewId(Long interviewId);
+
+    /**
+     * Creates the empty report row unless another worker already has.
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO interview_report (interview_id, status, plagiarism_revision, created_at, updated_at)
+        VALUES (:interviewId, 'PENDING', 0, now(), now())
+        ON CONFLICT (interview_id) DO NOTHING
+    """, nativeQuery = true)
+    int createIfAbsent(@Param("interviewId") Long interviewId);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM InterviewReport r WHERE r.interviewId = :interviewId")
+    Optional<InterviewReport> lockByInterviewId(@Param("interviewId") Long interviewId);
+
+    /**
+     * Drops the stored plagiarism section of the other reports whose score on
+     * one of the new embeddings' questions the new vector beats, and bumps
+     * their revision so a section computed before the embeddings arrived is not
+     * written back. Scores are compared to each report's own stored vector of
+     * the question (another candidate's only, as in the search); a report
+     * whose vector is not stored yet is invalidated conservatively, and one
+     * whose section is still being computed only has its revision bumped.
+     * Reports the new vectors cannot change are left alone.
+     */
+    @Modifying
+    @Query(value = """
+        UPDATE interview_report r
+        SET plagiarism = NULL,
+            plagiarism_revision = r.plagiarism_revision + 1,
+            status = CASE WHEN r.status = 'COMPLETED' THEN 'PARTIAL' ELSE r.status END,
+            updated_at = now()
+        WHERE r.interview_id NOT IN (:excludedInterviewIds)
+        AND EXISTS (
+            SELECT 1
+            FROM code_embeddings n
+            JOIN question qu ON qu.id = n.question_id
+            JOIN question_submission q ON q.question_id = n.question_id
+            JOIN interview_submission s ON s.id = q.interview_submission_id
+            LEFT JOIN code_embeddings e
+                ON e.question_id = n.question_id
+                AND e.question_submission_id = q.id
+                AND e.model_id = n.model_id
+            WHERE n.id IN (:embeddingIds)
+            AND s.interview_id = r.interview_id
+            AND s.candidate_id <> n.candidate_id
+            AND (e.id IS NULL OR (1 - (n.embedding <=> e.embedding)) * 100 > COALESCE(
+                (SELECT max((p ->> 'plagiarismChance')::float8)
+                 FROM jsonb_array_elements(r.plagiarism) p
+                 WHERE p ->> 'questionName' = qu.title), -100))
+        )
+    """, nativeQuery = true)
+    int invalidatePlagiarism(@Param("embeddingIds") Collection<Long> embeddingIds,
+            @Param("excludedInterviewIds") Collection<Long> excludedInterviewIds);
+}
@@ -2,16 +2,48 @@ package com.skillsage.repository;
 
 import com.skillsage.entity.Interview;
 import com.skillsage.entity.enums.InterviewStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface InterviewRepository extends JpaRepository<Interview, Long> {
+public interface InterviewRepository extends JpaRepository<Interview, Long>, JpaSpecificationExecutor<Interview> {
+    @EntityGraph(attributePaths = {"recruiter", "candidate"})
     List<Interview> findByRecruiterId(Long recruiterId);
+
+    @EntityGraph(attributePaths = {"recruiter", "candidate"})
     List<Interview> findByCandidateId(Long candidateId);
+
+    /**
+     * Keyset page of a recruiter's (or candidate's) interviews; status and the
+     * start-time range are optional filters.
+     */
+    default List<Interview> findPage(long cursor, Long recruiterId, Long candidateId, InterviewStatus status,
+            LocalDateTime from, LocalDateTime to, Limit limit) {
+        return findBy(InterviewSpecifications.page(cursor, recruiterId, candidateId, status, from, to),
+                q -> q.project("recruiter", "candidate").sortBy(Sort.by("id")).limit(limit.max()).all());
+    }
+
+    @EntityGraph(attributePaths = {"recruiter", "candidate", "questions"})
+    Optional<Interview> findWithDetailsById(Long id);
+
+    /**
+     * Initializes the questions of already loaded interviews in one query; the
+     * collections are filled in on the managed instances.
+     */
+    @Query("select distinct i from Interview i left join fetch i.questions where i.id in :ids")
+    List<Interview> fetchQuestions(@Param("ids") Collection<Long> ids);
+
     List<Interview> findByStartTimeAfterAndStatus(LocalDateTime now, InterviewStatus status);
     List<Interview> findByEndTimeBeforeAndStatus(LocalDateTime now, InterviewStatus status);
-} 
\ No newline at end of file
+}
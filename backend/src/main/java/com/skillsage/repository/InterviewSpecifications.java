@@ -0,0 +1,47 @@
+package com.skillsage.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.skillsage.entity.Interview;
+import com.skillsage.entity.enums.InterviewStatus;
+
+import jakarta.persistence.criteria.Predicate;
+
+public final class InterviewSpecifications {
+
+    private InterviewSpecifications() {
+    }
+
+    /**
+     * Rows after {@code cursor}, restricted by whichever filters are set. Only
+     * the set filters become predicates, so the planner sees the same shape as
+     * the index it should use.
+     */
+    public static Specification<Interview> page(long cursor, Long recruiterId, Long candidateId,
+            InterviewStatus status, LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.greaterThan(root.get("id"), cursor));
+            if (recruiterId != null) {
+                predicates.add(cb.equal(root.get("recruiter").get("id"), recruiterId));
+            }
+            if (candidateId != null) {
+                predicates.add(cb.equal(root.get("candidate").get("id"), candidateId));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("startTime"), from));
+            }
+            if (to != null) {
+                predicates.add(cb.lessThan(root.get("startTime"), to));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -1,13 +1,34 @@
 package com.skillsage.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import com.skillsage.entity.InterviewSubmission;
 
 @Repository
-public interface InterviewSubmissionRepository extends JpaRepository<InterviewSubmission, Long> {
+public interface InterviewSubmissionRepository extends JpaRepository<InterviewSubmission, Long>,
+        JpaSpecificationExecutor<InterviewSubmission> {
     Optional<InterviewSubmission> findByInterviewId(Long interviewId);
+
+    @EntityGraph(attributePaths = {"interview", "candidate", "questionSubmissions"})
+    List<InterviewSubmission> findWithQuestionSubmissionsByIdIn(Collection<Long> ids);
+
+    /**
+     * Keyset page of submissions to interviews owned by a recruiter (or made by
+     * a candidate); every filter is optional.
+     */
+    default List<InterviewSubmission> findPage(long cursor, Long recruiterId, Long candidateId, LocalDateTime from,
+            LocalDateTime to, String language, Limit limit) {
+        return findBy(InterviewSubmissionSpecifications.page(cursor, recruiterId, candidateId, from, to, language),
+                q -> q.project("interview", "candidate").sortBy(Sort.by("id")).limit(limit.max()).all());
+    }
 }
@@ -0,0 +1,52 @@
+package com.skillsage.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.skillsage.entity.InterviewSubmission;
+import com.skillsage.entity.QuestionSubmission;
+
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+public final class InterviewSubmissionSpecifications {
+
+    private InterviewSubmissionSpecifications() {
+    }
+
+    /**
+     * Rows after {@code cursor}, restricted by whichever filters are set; the
+     * language filter matches submissions with at least one answer in it.
+     */
+    public static Specification<InterviewSubmission> page(long cursor, Long recruiterId, Long candidateId,
+            LocalDateTime from, LocalDateTime to, String language) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.greaterThan(root.get("id"), cursor));
+            if (recruiterId != null) {
+                predicates.add(cb.equal(root.get("interview").get("recruiter").get("id"), recruiterId));
+            }
+            if (candidateId != null) {
+                predicates.add(cb.equal(root.get("candidate").get("id"), candidateId));
+            }
+            if (from != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("submittedAt"), from));
+            }
+            if (to != null) {
+                predicates.add(cb.lessThan(root.get("submittedAt"), to));
+            }
+            if (language != null) {
+                Subquery<Long> answers = query.subquery(Long.class);
+                Root<QuestionSubmission> qs = answers.from(QuestionSubmission.class);
+                answers.select(qs.get("id")).where(cb.equal(qs.get("interviewSubmission"), root),
+                        cb.equal(qs.get("language"), language));
+                predicates.add(cb.exists(answers));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package com.skillsage.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.skillsage.entity.OutboxEvent;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the next claimable events: pending ones that are due, and
+     * processing ones whose lease has expired. Rows locked by another worker
+     * are skipped rather than waited on.
+     */
+    @Query(value = """
+        SELECT * FROM outbox_event
+        WHERE status IN ('PENDING', 'PROCESSING')
+        AND available_at <= :now
+        ORDER BY id
+        LIMIT :limit
+        FOR UPDATE SKIP LOCKED
+    """, nativeQuery = true)
+    List<OutboxEvent> lockClaimable(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
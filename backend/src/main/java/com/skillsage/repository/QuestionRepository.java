@@ -1,12 +1,20 @@
 package com.skillsage.repository;
 
 import com.skillsage.entity.Question;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface QuestionRepository extends JpaRepository<Question, Long> {
+public interface QuestionRepository extends JpaRepository<Question, Long>, JpaSpecificationExecutor<Question> {
     List<Question> findByIdIn(List<Long> ids);
-} 
\ No newline at end of file
+
+    default List<Question> findPage(long cursor, String language, Limit limit) {
+        return findBy(QuestionSpecifications.page(cursor, language),
+                q -> q.sortBy(Sort.by("id")).limit(limit.max()).all());
+    }
+}
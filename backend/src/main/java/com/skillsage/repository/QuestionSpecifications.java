@@ -0,0 +1,16 @@
+package com.skillsage.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.skillsage.entity.Question;
+
+public final class QuestionSpecifications {
+
+    private QuestionSpecifications() {
+    }
+
+    public static Specification<Question> page(long cursor, String language) {
+        return (root, query, cb) -> language == null ? cb.greaterThan(root.get("id"), cursor)
+                : cb.and(cb.greaterThan(root.get("id"), cursor), cb.equal(root.get("language"), language));
+    }
+}
@@ -1,31 +1,43 @@
 package com.skillsage.service;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.skillsage.config.GeminiService;
 import com.skillsage.dto.request.CheckSubmission;
 import com.skillsage.dto.response.AIFeedbackSummary;
 import com.skillsage.dto.response.CheckSubmissionResponse;
 import com.skillsage.dto.response.CodeQualityCheck;
 import com.skillsage.dto.response.CodeSubmissionTimeSpaceComplexityResponse;
+import com.skillsage.dto.response.InterviewAnalysis;
 import com.skillsage.dto.response.PlagiarismResponse;
+import com.skillsage.dto.response.QuestionAnalysis;
 import com.skillsage.dto.response.QuestionGenerateResponse;
-import com.skillsage.entity.CodeEmbedding;
 import com.skillsage.entity.InterviewSubmission;
+import com.skillsage.entity.PgVectorCodec;
 import com.skillsage.entity.Question;
 import com.skillsage.entity.QuestionSubmission;
 import com.skillsage.entity.User;
 import com.skillsage.repository.InterviewSubmissionRepository;
 import com.skillsage.repository.QuestionRepository;
+import com.skillsage.service.fingerprint.FingerprintService;
+import com.skillsage.service.fingerprint.MinHashLshIndex;
+import com.skillsage.service.llm.LlmClient;
+import com.skillsage.service.llm.LlmPriority;
+import com.skillsage.service.vector.HnswIndex;
+import com.skillsage.service.vector.VectorIndexService;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
@@ -38,9 +50,19 @@ public class AiServiceImpl {
 	private final CodeEmbeddingServiceImpl codeEmbeddingService;
 	private final InterviewSubmissionRepository interviewSubmissionRepo;
 	private final EntityManager entityManager;
-	private final GeminiService geminiService;
-	private final ObjectMapper objectMapper = new ObjectMapper();
 	private final QuestionRepository questionRepo;
+	private final VectorIndexService vectorIndexService;
+	private final AiTaskExecutor aiTaskExecutor;
+	private final PlagiarismMessageService plagiarismMessageService;
+	private final FingerprintService fingerprintService;
+	private final LlmClient llmClient;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${ai.analysis.mode:combined}")
+	private String analysisMode;
+
+	@Value("${pgvector.hnsw.iterative-scan:off}")
+	private String hnswIterativeScan;
 
 	public List<PlagiarismResponse> detectPlagarism(Long interviewId) {
 
@@ -48,164 +70,230 @@ public class AiServiceImpl {
 		if (submission == null) {
 			return null;
 		}
-		List<PlagiarismResponse> response = new ArrayList<>();
 		User candidate = submission.getCandidate();
 		List<QuestionSubmission> questionSubmissions = submission.getQuestionSubmissions();
-		for (QuestionSubmission qs : questionSubmissions) {
-			float[] meanEmbedding = codeEmbeddingService.generateMeanEmbedding(qs.getCode());
-			List<CodeEmbedding> similarEmbeddings = this.findSimilarEmbeddingsManually(qs.getQuestion().getId(),
-					candidate.getId(), meanEmbedding, 5);
-
-			if (similarEmbeddings.isEmpty()) {
-				String message = this.plagarisimString(qs.getQuestion().getTitle(), "0", false, "none");
-				PlagiarismResponse obj = new PlagiarismResponse(0, false, message, qs.getQuestion().getTitle());
-				response.add(obj);
-				continue;
+		Locale locale = LocaleContextHolder.getLocale();
+
+		// Structural suspects are confirmed on the stored vectors first; only the
+		// questions they leave undecided are embedded and searched
+		List<Double> suspectSimilarities = new ArrayList<>(questionSubmissions.size());
+		List<Integer> undecided = new ArrayList<>();
+		for (int i = 0; i < questionSubmissions.size(); i++) {
+			QuestionSubmission qs = questionSubmissions.get(i);
+			MinHashLshIndex.Match suspect = this.fingerprintSuspect(qs, candidate);
+			Double similarity = suspect == null ? null : this.storedSimilarity(qs, suspect.embeddingId());
+			suspectSimilarities.add(similarity);
+			if (similarity == null || !plagiarismMessageService.isPlagiarized(toPercent(similarity))) {
+				undecided.add(i);
 			}
-			double maxSimilarity = -1;
+		}
+		List<float[]> resolved = this.resolveEmbeddings(undecided.stream().map(questionSubmissions::get).toList());
+		List<float[]> embeddings = new ArrayList<>(Collections.nCopies(questionSubmissions.size(), null));
+		for (int j = 0; j < undecided.size(); j++) {
+			embeddings.set(undecided.get(j), resolved.get(j));
+		}
 
-			for (CodeEmbedding embedding : similarEmbeddings) {
-				double similarity = cosineSimilarity(meanEmbedding, embedding.getEmbedding());
-				if (similarity > maxSimilarity) {
-					maxSimilarity = similarity;
-				}
-			}
+		// Each question's vector lookup and message generation runs on its own
+		// virtual thread; results are collected in question order
+		List<Callable<PlagiarismResponse>> tasks = new ArrayList<>();
+		for (int i = 0; i < questionSubmissions.size(); i++) {
+			Question question = questionSubmissions.get(i).getQuestion();
+			float[] meanEmbedding = embeddings.get(i);
+			Double suspectSimilarity = suspectSimilarities.get(i);
+			tasks.add(() -> this.analyzePlagiarism(question, candidate, meanEmbedding, suspectSimilarity, locale));
+		}
+		return aiTaskExecutor.invokeAll(tasks);
+	}
 
-			double plagiarismPercent = Math.round(maxSimilarity * 10000.0) / 100.0; // Round to 2 decimals
-			if (plagiarismPercent > 90) {
-				String message = this.plagarisimString(qs.getQuestion().getTitle(), String.valueOf(plagiarismPercent),
-						true, candidate.getEmail());
-				PlagiarismResponse obj = new PlagiarismResponse(plagiarismPercent, true, message,
-						qs.getQuestion().getTitle());
-				response.add(obj);
-			} else {
-				String message = this.plagarisimString(qs.getQuestion().getTitle(), String.valueOf(plagiarismPercent),
-						false, "none");
-				PlagiarismResponse obj = new PlagiarismResponse(plagiarismPercent, false, message,
-						qs.getQuestion().getTitle());
-				response.add(obj);
-				continue;
-			}
+	/**
+	 * Structural match close enough to be worth confirming first, or null. The
+	 * fingerprint never decides on its own: short or boilerplate code shares
+	 * structure without being copied.
+	 */
+	private MinHashLshIndex.Match fingerprintSuspect(QuestionSubmission qs, User candidate) {
+		if (!fingerprintService.isReady()) {
+			return null;
+		}
+		MinHashLshIndex.Match match = fingerprintService.bestMatch(qs.getQuestion().getId(), candidate.getId(),
+				qs.getCode(), qs.getLanguage());
+		return match != null && plagiarismMessageService.isPlagiarized(toPercent(match.similarity())) ? match : null;
+	}
 
+	/**
+	 * Scores one question. {@code meanEmbedding} is null when the fingerprint
+	 * suspect was already confirmed, which needs no search; otherwise the best
+	 * of the suspect and the top nearest neighbour is reported, since the
+	 * approximate search can miss the suspect.
+	 */
+	private PlagiarismResponse analyzePlagiarism(Question question, User candidate, float[] meanEmbedding,
+			Double suspectSimilarity, Locale locale) {
+		Double best = suspectSimilarity;
+		if (meanEmbedding != null) {
+			List<HnswIndex.Neighbor> neighbours = this.findSimilarEmbeddingsManually(question.getId(),
+					candidate.getId(), meanEmbedding, 5);
+			if (!neighbours.isEmpty()) {
+				// Neighbours come back best-first with their cosine similarity already computed
+				double top = neighbours.get(0).similarity();
+				best = best == null ? top : Math.max(best, top);
+			}
 		}
+		double plagiarismPercent = best == null ? 0 : toPercent(best);
+		String message = plagiarismMessageService.render(question.getTitle(), plagiarismPercent, locale);
+		return new PlagiarismResponse(plagiarismPercent, plagiarismMessageService.isPlagiarized(plagiarismPercent),
+				message, question.getTitle());
+	}
 
-		return response;
+	/**
+	 * Exact cosine similarity between the stored embedding of the submission and
+	 * another stored embedding of the question, computed in the database. Null
+	 * if either row is missing or they come from different models.
+	 */
+	private Double storedSimilarity(QuestionSubmission questionSubmission, long embeddingId) {
+		String sql = """
+				    SELECT 1 - (own.embedding <=> other.embedding)
+				    FROM code_embeddings own
+				    JOIN code_embeddings other
+				    ON other.question_id = own.question_id
+				    AND other.model_id = own.model_id
+				    WHERE own.question_id = %d
+				    AND own.question_submission_id = :questionSubmissionId
+				    AND own.model_id = :modelId
+				    AND other.id = :id
+				""";
+		Query query = entityManager.createNativeQuery(sql.formatted(questionSubmission.getQuestion().getId()));
+		query.setParameter("questionSubmissionId", questionSubmission.getId());
+		query.setParameter("modelId", codeEmbeddingService.getModelId());
+		query.setParameter("id", embeddingId);
+
+		@SuppressWarnings("unchecked")
+		List<Object> rows = query.getResultList();
+		return rows.isEmpty() ? null : ((Number) rows.get(0)).doubleValue();
 	}
 
-	private double cosineSimilarity(float[] vec1, float[] vec2) {
-		double dot = 0.0, norm1 = 0.0, norm2 = 0.0;
-		for (int i = 0; i < vec1.length; i++) {
-			dot += vec1[i] * vec2[i];
-			norm1 += vec1[i] * vec1[i];
-			norm2 += vec2[i] * vec2[i];
-		}
-		return dot / (Math.sqrt(norm1) * Math.sqrt(norm2));
+	private static double toPercent(double similarity) {
+		return Math.round(similarity * 10000.0) / 100.0; // Round to 2 decimals
 	}
 
-	public List<CodeEmbedding> findSimilarEmbeddingsManually(Long questionId, Long candidateId, float[] embedding,
-			int limit) {
-		String vectorLiteral = toPgVectorLiteral(embedding); // e.g. "[0.123456, 0.234567, ...]"
+	/**
+	 * Reuses the embedding persisted for each submission where one exists for the
+	 * current model, and embeds (through the cache) only the snippets without one.
+	 */
+	private List<float[]> resolveEmbeddings(List<QuestionSubmission> questionSubmissions) {
+		List<float[]> embeddings = new ArrayList<>(questionSubmissions.size());
+		List<Integer> missing = new ArrayList<>();
+		for (int i = 0; i < questionSubmissions.size(); i++) {
+			float[] stored = this.findStoredEmbedding(questionSubmissions.get(i));
+			embeddings.add(stored);
+			if (stored == null) {
+				missing.add(i);
+			}
+		}
+		if (!missing.isEmpty()) {
+			List<float[]> generated = codeEmbeddingService.generateMeanEmbeddings(
+					missing.stream().map(i -> questionSubmissions.get(i).getCode()).toList(),
+					missing.stream().map(i -> questionSubmissions.get(i).getLanguage()).toList());
+			for (int j = 0; j < missing.size(); j++) {
+				embeddings.set(missing.get(j), generated.get(j));
+			}
+		}
+		return embeddings;
+	}
 
+	private float[] findStoredEmbedding(QuestionSubmission questionSubmission) {
+		// Keyed on the submission itself: the same candidate may answer the same
+		// question again in a later interview
 		String sql = """
-				    SELECT id, question_id, candidate_id, embedding
+				    SELECT vector_send(embedding)
 				    FROM code_embeddings
 				    WHERE question_id = :questionId
-				    AND candidate_id != :candidateId
-				    ORDER BY embedding <=> CAST(:vector AS vector)
-				    LIMIT :limit
+				    AND question_submission_id = :questionSubmissionId
+				    AND model_id = :modelId
+				    LIMIT 1
 				""";
 
 		Query query = entityManager.createNativeQuery(sql);
-		query.setParameter("questionId", questionId);
-		query.setParameter("candidateId", candidateId);
-		query.setParameter("vector", vectorLiteral);
-		query.setParameter("limit", limit);
+		query.setParameter("questionId", questionSubmission.getQuestion().getId());
+		query.setParameter("questionSubmissionId", questionSubmission.getId());
+		query.setParameter("modelId", codeEmbeddingService.getModelId());
 
 		@SuppressWarnings("unchecked")
-		List<Object[]> rows = query.getResultList();
-
-		List<CodeEmbedding> result = new ArrayList<>();
-
-		for (Object[] row : rows) {
-			CodeEmbedding ce = new CodeEmbedding();
-			ce.setId(((Number) row[0]).longValue());
-			ce.setQuestionId(((Number) row[1]).longValue());
-			ce.setCandidateId(((Number) row[2]).longValue());
-
-			// Parse the `vector` manually from the String (row[3])
-			String vectorStr = row[3].toString().replaceAll("[\\[\\]]", "");
-			String[] parts = vectorStr.split(",");
-			float[] parsedVec = new float[parts.length];
-			for (int i = 0; i < parts.length; i++) {
-				parsedVec[i] = Float.parseFloat(parts[i].trim());
-			}
-			ce.setEmbedding(parsedVec);
+		List<Object> rows = query.getResultList();
+		return rows.isEmpty() || rows.get(0) == null ? null : PgVectorCodec.decode((byte[]) rows.get(0));
+	}
 
-			result.add(ce);
+	/**
+	 * Nearest neighbours of another candidate for the question, best first. The
+	 * SQL path computes the similarity in the database and returns no vectors.
+	 */
+	public List<HnswIndex.Neighbor> findSimilarEmbeddingsManually(Long questionId, Long candidateId,
+			float[] embedding, int limit) {
+		if (vectorIndexService.isReady()) {
+			return vectorIndexService.search(questionId, candidateId, embedding, limit);
+		}
+		// The question id is inlined (it is a Long) so the planner prunes to the
+		// question's partition and its HNSW index at plan time
+		String sql = """
+				    SELECT id, candidate_id, 1 - (embedding <=> CAST(:vector AS vector))
+				    FROM code_embeddings
+				    WHERE question_id = %d
+				    AND candidate_id != :candidateId
+				    ORDER BY embedding <=> CAST(:vector AS vector)
+				    LIMIT :limit
+				""";
+		if (vectorIndexService.isQuantized()) {
+			// Coarse pass on half precision (served by the halfvec expression index),
+			// then exact re-rank of the over-fetched candidates
+			sql = """
+					    WITH coarse AS (
+					        SELECT id, candidate_id, embedding
+					        FROM code_embeddings
+					        WHERE question_id = %d
+					        AND candidate_id != :candidateId
+					        ORDER BY CAST(embedding AS halfvec(768)) <=> CAST(CAST(:vector AS vector) AS halfvec(768))
+					        LIMIT :coarseLimit
+					    )
+					    SELECT id, candidate_id, 1 - (embedding <=> CAST(:vector AS vector))
+					    FROM coarse
+					    ORDER BY embedding <=> CAST(:vector AS vector)
+					    LIMIT :limit
+					""";
 		}
 
-		return result;
-	}
+		String search = sql.formatted(questionId);
+		return transactionTemplate.execute(status -> {
+			this.enableIterativeScan();
+			Query query = entityManager.createNativeQuery(search);
+			query.setParameter("candidateId", candidateId);
+			query.setParameter("vector", embedding);
+			query.setParameter("limit", limit);
+			if (vectorIndexService.isQuantized()) {
+				query.setParameter("coarseLimit", limit * vectorIndexService.getRerankOversample());
+			}
 
-	private String toPgVectorLiteral(float[] embedding) {
-		StringBuilder sb = new StringBuilder("[");
-		for (int i = 0; i < embedding.length; i++) {
-			sb.append(String.format("%.6f", embedding[i]));
-			if (i < embedding.length - 1)
-				sb.append(", ");
-		}
-		sb.append("]");
-		return sb.toString();
+			@SuppressWarnings("unchecked")
+			List<Object[]> rows = query.getResultList();
+
+			List<HnswIndex.Neighbor> result = new ArrayList<>(rows.size());
+			for (Object[] row : rows) {
+				result.add(new HnswIndex.Neighbor(((Number) row[0]).longValue(), ((Number) row[1]).longValue(),
+						null, ((Number) row[2]).doubleValue()));
+			}
+			return result;
+		});
 	}
 
-	private String plagarisimString(String questionTitle, String similarity, boolean isPlagiarized,
-			String candidateName) {
-
-		String prompt = "";
-		if (!isPlagiarized) {
-			prompt = String.format(
-					"""
-								You are a coding evaluator and must generate a short plagiarism feedback message in natural English using the provided data.
-								This message is for the recruiter, so it should be **professional**, **clear**, and **helpful**.
-								Always include:
-								- The question title
-
-								Data:
-								Question Title: %s
-
-								Example Response:
-									The submission for "%s" shows a low similarity score, with a unique approach to solving the problem. The logic and structure appear to be written independently, suggesting that the code is original and not plagiarized. Please check at your end as well.
-
-								Output:
-								<your formatted response here>
-
-							""",
-					questionTitle, questionTitle);
-		} else {
-			prompt =
-
-					String.format(
-							"""
-										You are a coding evaluator and must generate a short plagiarism feedback message in natural English using the provided data.
-										This message is for the recruiter, so it should be **professional**, **clear**, and **helpful**.
-										Always include:
-										- The question title
-										- The similarity percentage
-
-										Data:
-										Question Title: %s
-										Similarity Percentage: %s
-										Example Response:
-											The submission for "%s" shows a HIGH similarity with existing known solutions. The structure and logic are nearly identical, with only minor changes in variable names and formatting. Based on this, it is likely that the code is plagiarized.Please check at your end as well
-
-										Output:
-										<your formatted response here>
-
-									""",
-							questionTitle, similarity, questionTitle);
+	/**
+	 * An embedding partition holds several questions and the question filter
+	 * is applied after the HNSW scan, so the scan is made iterative for this
+	 * transaction only. Requires pgvector 0.8+; older servers reject the
+	 * setting, so {@code pgvector.hnsw.iterative-scan=off} skips it.
+	 */
+	private void enableIterativeScan() {
+		if (!"off".equalsIgnoreCase(hnswIterativeScan)) {
+			entityManager.createNativeQuery("SELECT set_config('hnsw.iterative_scan', :mode, true)")
+					.setParameter("mode", hnswIterativeScan)
+					.getSingleResult();
 		}
-		String response = geminiService.generateResponse(prompt);
-		return response;
 	}
 
 	public AIFeedbackSummary generateSummary(Long id) {
@@ -214,17 +302,32 @@ public class AiServiceImpl {
 			return null;
 		}
 		List<QuestionSubmission> questionSubmissions = submission.getQuestionSubmissions();
-		String summaryResponse = this.generateSummaryPrompt(questionSubmissions);
-		try {
-			AIFeedbackSummary value = objectMapper.readValue(summaryResponse, AIFeedbackSummary.class);
-			return value;
-		} catch (Exception e) {
-			e.printStackTrace();
+		InterviewAnalysis analysis = this.combinedAnalysis(questionSubmissions);
+		if (analysis != null) {
+			return analysis.getSummary();
 		}
-		return null;
+		return llmClient.generateJson(this.buildSummaryPrompt(questionSubmissions), LlmPriority.BACKGROUND,
+				AIFeedbackSummary.class);
 	}
 
-	public String generateSummaryPrompt(List<QuestionSubmission> list) {
+	/**
+	 * Streaming counterpart of {@link #generateSummary(Long)}: the same prompts,
+	 * priority and cache entries, with the raw reply relayed to {@code onText}
+	 * as it arrives.
+	 */
+	public CompletableFuture<AIFeedbackSummary> streamSummary(List<QuestionSubmission> list,
+			Consumer<String> onText) {
+		CompletableFuture<InterviewAnalysis> combined = this.isCombinedMode() && !list.isEmpty()
+				? llmClient.streamJson(this.buildInterviewAnalysisPrompt(list), LlmPriority.BACKGROUND,
+						InterviewAnalysis.class, onText)
+				: CompletableFuture.completedFuture(null);
+		return combined.thenCompose(analysis -> analysis != null && analysis.getSummary() != null
+				? CompletableFuture.completedFuture(analysis.getSummary())
+				: llmClient.streamJson(this.buildSummaryPrompt(list), LlmPriority.BACKGROUND,
+						AIFeedbackSummary.class, onText));
+	}
+
+	public String buildSummaryPrompt(List<QuestionSubmission> list) {
 		StringBuilder promptBuilder = new StringBuilder();
 
 		promptBuilder
@@ -259,11 +362,7 @@ public class AiServiceImpl {
 		promptBuilder.append("  \"content\": \"Your summary here...\",\n");
 		promptBuilder.append("  \"rating\": \"3/4 ⭐⭐⭐\"\n");
 		promptBuilder.append("}");
-		String prompt = promptBuilder.toString();
-		String rawResponse = geminiService.generateResponse(prompt);
-		return rawResponse.replaceAll("(?i)```json", "") // Remove ```json
-				.replaceAll("(?i)```", "") // Remove any remaining ```
-				.trim();
+		return promptBuilder.toString();
 	}
 
 	public List<CodeSubmissionTimeSpaceComplexityResponse> getComplexityAnalysis(Long id) {
@@ -273,6 +372,14 @@ public class AiServiceImpl {
 			return response;
 		}
 		List<QuestionSubmission> questionSubmissions = submission.getQuestionSubmissions();
+		InterviewAnalysis analysis = this.combinedAnalysis(questionSubmissions);
+		if (analysis != null) {
+			for (QuestionAnalysis qa : analysis.getQuestions()) {
+				response.add(new CodeSubmissionTimeSpaceComplexityResponse(qa.getQuestionName(), qa.getTimeComplexity(),
+						qa.getSpaceComplexity()));
+			}
+			return response;
+		}
 		for (QuestionSubmission qs : questionSubmissions) {
 			CodeSubmissionTimeSpaceComplexityResponse obj = this.generateComplexityAnalysisPrompt(
 					qs.getQuestion().getTitle(), qs.getQuestion().getDescription(), qs.getLanguage(), qs.getCode());
@@ -315,24 +422,12 @@ public class AiServiceImpl {
 						  }
 						  """,
 				title, description, language, code);
-		String response = geminiService.generateResponse(prompt).replaceAll("(?i)```json", "") // Remove ```json
-				.replaceAll("(?i)```", "") // Remove any remaining ```
-				.trim();
-		ObjectMapper objectMapper = new ObjectMapper();
-		Map<String, String> result = new HashMap<>();
-		try {
-			result = objectMapper.readValue(response, Map.class);
-		} catch (Exception e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+		CodeSubmissionTimeSpaceComplexityResponse res = llmClient.generateJson(prompt, LlmPriority.BACKGROUND,
+				CodeSubmissionTimeSpaceComplexityResponse.class);
+		if (res == null) {
+			res = new CodeSubmissionTimeSpaceComplexityResponse();
 		}
-
-		String timeComplexity = result.get("timeComplexity");
-		String spaceComplexity = result.get("spaceComplexity");
-		CodeSubmissionTimeSpaceComplexityResponse res = new CodeSubmissionTimeSpaceComplexityResponse();
 		res.setQuestionName(title);
-		res.setSpaceComplexity(spaceComplexity);
-		res.setTimeComplexity(timeComplexity);
 		return res;
 	}
 
@@ -343,16 +438,27 @@ public class AiServiceImpl {
 		}
 		List<CodeQualityCheck> response = new ArrayList<>();
 		List<QuestionSubmission> questionSubmissions = submission.getQuestionSubmissions();
+		InterviewAnalysis analysis = this.combinedAnalysis(questionSubmissions);
+		if (analysis != null) {
+			for (QuestionAnalysis qa : analysis.getQuestions()) {
+				response.add(new CodeQualityCheck(qa.getQuestionName(), qa.getQuality()));
+			}
+			return response;
+		}
 		for (QuestionSubmission qs : questionSubmissions) {
-			CodeQualityCheck obj = new CodeQualityCheck();
-			String res = this.generateResponse(qs);
-			obj.setContent(res);
-			obj.setQuestionName(qs.getQuestion().getTitle());
-			response.add(obj);
+			response.add(this.generateCodeQualityCheck(qs));
 		}
 		return response;
 	}
 
+	public CodeQualityCheck generateCodeQualityCheck(QuestionSubmission qs) {
+		CodeQualityCheck obj = new CodeQualityCheck();
+		String res = this.generateResponse(qs);
+		obj.setContent(res);
+		obj.setQuestionName(qs.getQuestion().getTitle());
+		return obj;
+	}
+
 	private String generateResponse(QuestionSubmission q) {
 		String prompt = String.format(
 				"""
@@ -386,10 +492,130 @@ public class AiServiceImpl {
 						<your detailed but concise code analysis>
 						""",
 				q.getQuestion().getTitle(), q.getQuestion().getDescription(), q.getCode());
-		String response = geminiService.generateResponse(prompt);
+		String response = llmClient.generate(prompt, LlmPriority.BACKGROUND);
 		return response;
 	}
 
+	public InterviewAnalysis getInterviewAnalysis(Long interviewId) {
+		InterviewSubmission submission = interviewSubmissionRepo.findByInterviewId(interviewId).orElse(null);
+		if (submission == null) {
+			return null;
+		}
+		return this.analyzeInterview(submission.getQuestionSubmissions());
+	}
+
+	/**
+	 * Result of the single per-interview prompt when {@code ai.analysis.mode} is
+	 * {@code combined}, or null to use the per-question prompts. Every report
+	 * endpoint sends the byte-identical prompt, so the response cache serves
+	 * them all from one Gemini call.
+	 */
+	InterviewAnalysis combinedAnalysis(List<QuestionSubmission> list) {
+		if (!this.isCombinedMode() || list.isEmpty()) {
+			return null;
+		}
+		return this.analyzeInterview(list);
+	}
+
+	public boolean isCombinedMode() {
+		return "combined".equalsIgnoreCase(analysisMode);
+	}
+
+	private InterviewAnalysis analyzeInterview(List<QuestionSubmission> list) {
+		String prompt = this.buildInterviewAnalysisPrompt(list);
+		InterviewAnalysis analysis = llmClient.generateJson(prompt, LlmPriority.BACKGROUND, InterviewAnalysis.class);
+		if (analysis == null || analysis.getSummary() == null) {
+			return null;
+		}
+		// Align with the submitted questions by position; names come from our data, not the model
+		List<QuestionAnalysis> returned = analysis.getQuestions() == null ? List.of() : analysis.getQuestions();
+		List<QuestionAnalysis> analyses = new ArrayList<>(list.size());
+		List<Integer> incomplete = new ArrayList<>();
+		List<Callable<QuestionAnalysis>> fallbacks = new ArrayList<>();
+		for (int i = 0; i < list.size(); i++) {
+			QuestionSubmission qs = list.get(i);
+			QuestionAnalysis qa = i < returned.size() ? returned.get(i) : null;
+			if (qa == null || qa.getTimeComplexity() == null || qa.getQuality() == null) {
+				// The model skipped or truncated this entry: fill the gaps from the per-question prompts
+				incomplete.add(i);
+				fallbacks.add(() -> this.completeQuestionAnalysis(qs, qa));
+			}
+			analyses.add(qa);
+		}
+		if (!fallbacks.isEmpty()) {
+			List<QuestionAnalysis> completed = aiTaskExecutor.invokeAll(fallbacks);
+			for (int j = 0; j < incomplete.size(); j++) {
+				analyses.set(incomplete.get(j), completed.get(j));
+			}
+		}
+		for (int i = 0; i < list.size(); i++) {
+			analyses.get(i).setQuestionName(list.get(i).getQuestion().getTitle());
+		}
+		analysis.setQuestions(analyses);
+		return analysis;
+	}
+
+	private QuestionAnalysis completeQuestionAnalysis(QuestionSubmission qs, QuestionAnalysis partial) {
+		QuestionAnalysis qa = partial == null ? new QuestionAnalysis() : partial;
+		if (qa.getTimeComplexity() == null) {
+			CodeSubmissionTimeSpaceComplexityResponse complexity = this.generateComplexityAnalysisPrompt(
+					qs.getQuestion().getTitle(), qs.getQuestion().getDescription(), qs.getLanguage(), qs.getCode());
+			qa.setTimeComplexity(complexity.getTimeComplexity());
+			qa.setSpaceComplexity(complexity.getSpaceComplexity());
+		}
+		if (qa.getQuality() == null) {
+			qa.setQuality(this.generateCodeQualityCheck(qs).getContent());
+		}
+		return qa;
+	}
+
+	private String buildInterviewAnalysisPrompt(List<QuestionSubmission> list) {
+		StringBuilder promptBuilder = new StringBuilder();
+
+		promptBuilder.append(
+				"You are a senior coding interview evaluator. A candidate has submitted code solutions to the numbered questions below.\n");
+		promptBuilder.append(
+				"Your feedback is for a recruiter, so it should be professional and clear, but still insightful enough to support a hiring decision.\n\n");
+
+		for (int i = 0; i < list.size(); i++) {
+			QuestionSubmission qs = list.get(i);
+			promptBuilder.append("--- Question ").append(i + 1).append(" ---\n");
+			promptBuilder.append("Title: ").append(qs.getQuestion().getTitle()).append("\n");
+			promptBuilder.append("Description: ").append(qs.getQuestion().getDescription()).append("\n");
+			promptBuilder.append("Language: ").append(qs.getLanguage()).append("\n");
+			promptBuilder.append("Candidate's Code:\n");
+			promptBuilder.append("```\n").append(qs.getCode()).append("\n```\n\n");
+		}
+
+		promptBuilder.append("For every question, in the same order, provide:\n");
+		promptBuilder.append("- timeComplexity and spaceComplexity of the solution in Big-O notation\n");
+		promptBuilder.append(
+				"- quality: a short paragraph (4–6 sentences) on correctness, readability and structure, edge case handling and any noteworthy issues or improvements\n");
+		promptBuilder.append(
+				"- correctness: one sentence stating whether the code solves the problem as intended\n\n");
+		promptBuilder.append("Then provide an overall summary of the candidate’s performance, coding quality and problem-solving approach, with a star rating from 1 to 4:\n");
+		promptBuilder.append("   - ⭐ Poor / Unclear or unfinished code\n");
+		promptBuilder.append("   - ⭐⭐ Basic / brute-force logic, but makes sense\n");
+		promptBuilder.append("   - ⭐⭐⭐ Good approach, readable, and semi-optimal\n");
+		promptBuilder.append("   - ⭐⭐⭐⭐ Excellent code, clean and optimal logic\n\n");
+		promptBuilder.append("Respond only with JSON in this format, with exactly one entry in \"questions\" per question:\n");
+		promptBuilder.append("{\n");
+		promptBuilder.append("  \"questions\": [\n");
+		promptBuilder.append("    {\n");
+		promptBuilder.append("      \"timeComplexity\": \"O(n log n)\",\n");
+		promptBuilder.append("      \"spaceComplexity\": \"O(n)\",\n");
+		promptBuilder.append("      \"quality\": \"Your code analysis here...\",\n");
+		promptBuilder.append("      \"correctness\": \"Your verdict here...\"\n");
+		promptBuilder.append("    }\n");
+		promptBuilder.append("  ],\n");
+		promptBuilder.append("  \"summary\": {\n");
+		promptBuilder.append("    \"content\": \"Your summary here...\",\n");
+		promptBuilder.append("    \"rating\": \"3/4 ⭐⭐⭐\"\n");
+		promptBuilder.append("  }\n");
+		promptBuilder.append("}");
+		return promptBuilder.toString();
+	}
+
 	public QuestionGenerateResponse generateQuestionResponse(String request) {
 		String prompt = String.format(
 				"""
@@ -410,32 +636,14 @@ public class AiServiceImpl {
 						DO NOT include any explanation, markdown, or extra text. Just return the raw JSON.
 										""",
 				request);
-		String response = geminiService.generateResponse(prompt).replaceAll("(?i)```json", "") // Remove ```json
-				.replaceAll("(?i)```", "") // Remove any remaining ```
-				.trim();
-		QuestionGenerateResponse res = null;
-		try {
-			res = objectMapper.readValue(response, QuestionGenerateResponse.class);
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return res;
+		return llmClient.generateJsonUncached(prompt, LlmPriority.INTERACTIVE, QuestionGenerateResponse.class);
 	}
 
 	public CheckSubmissionResponse checkSubmission(CheckSubmission request) {
 		Question question = questionRepo.findById(request.getQuestionId()).get();
 		String prompt = this.buildEvaluationPrompt(request.getCode(), question.getLanguage(),
 				question.getDescription());
-		String response = geminiService.generateResponse(prompt).replaceAll("(?i)```json", "") // Remove ```json
-				.replaceAll("(?i)```", "") // Remove any remaining ```
-				.trim();
-		CheckSubmissionResponse res = null;
-		try {
-			res = objectMapper.readValue(response, CheckSubmissionResponse.class);
-		} catch (Exception e) {
-			e.printStackTrace();
-		}
-		return res;
+		return llmClient.generateJson(prompt, LlmPriority.INTERACTIVE, CheckSubmissionResponse.class);
 	}
 
 	private String buildEvaluationPrompt(String code, String language, String questionDetails) {
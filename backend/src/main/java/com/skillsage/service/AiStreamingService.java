@@ -0,0 +1,189 @@
+package com.skillsage.service;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.skillsage.dto.response.AIFeedbackSummary;
+import com.skillsage.dto.response.CodeQualityCheck;
+import com.skillsage.dto.response.CodeSubmissionTimeSpaceComplexityResponse;
+import com.skillsage.dto.response.InterviewAnalysis;
+import com.skillsage.dto.response.QuestionAnalysis;
+import com.skillsage.entity.InterviewReport;
+import com.skillsage.entity.InterviewSubmission;
+import com.skillsage.entity.QuestionSubmission;
+import com.skillsage.repository.InterviewSubmissionRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Server-Sent Events variants of the recruiter AI endpoints. Sections already
+ * stored in the interview report are replayed at once; otherwise every
+ * question is analysed on the AI executor and pushed as a {@code result}
+ * event the moment it finishes, followed by {@code done}. In combined mode the
+ * per-question sections come from the single per-interview analysis instead.
+ * The summary relays Gemini's token stream as {@code token} events before the
+ * parsed result, using the same prompt and cache entry as the report.
+ * The servlet thread returns as soon as the emitter is handed back.
+ */
+@Service
+@RequiredArgsConstructor
+public class AiStreamingService {
+
+	private final AiServiceImpl aiService;
+	private final AiTaskExecutor aiTaskExecutor;
+	private final InterviewReportService interviewReportService;
+	private final InterviewSubmissionRepository interviewSubmissionRepo;
+
+	@Value("${ai.stream.timeout-ms:300000}")
+	private long timeoutMs;
+
+	public SseEmitter streamCodeQuality(Long interviewId) {
+		SseEmitter emitter = new SseEmitter(timeoutMs);
+		List<?> stored = interviewReportService.findReport(interviewId).map(InterviewReport::getCodeQuality)
+				.orElse(null);
+		if (stored != null) {
+			this.replay(emitter, stored);
+		} else if (aiService.isCombinedMode()) {
+			this.streamCombined(emitter, this.questionSubmissions(interviewId),
+					qa -> new CodeQualityCheck(qa.getQuestionName(), qa.getQuality()),
+					aiService::generateCodeQualityCheck);
+		} else {
+			this.streamEach(emitter, this.questionSubmissions(interviewId), aiService::generateCodeQualityCheck);
+		}
+		return emitter;
+	}
+
+	public SseEmitter streamComplexity(Long interviewId) {
+		SseEmitter emitter = new SseEmitter(timeoutMs);
+		List<?> stored = interviewReportService.findReport(interviewId).map(InterviewReport::getComplexity)
+				.orElse(null);
+		Function<QuestionSubmission, CodeSubmissionTimeSpaceComplexityResponse> perQuestion = qs -> aiService
+				.generateComplexityAnalysisPrompt(qs.getQuestion().getTitle(), qs.getQuestion().getDescription(),
+						qs.getLanguage(), qs.getCode());
+		if (stored != null) {
+			this.replay(emitter, stored);
+		} else if (aiService.isCombinedMode()) {
+			this.streamCombined(emitter, this.questionSubmissions(interviewId),
+					qa -> new CodeSubmissionTimeSpaceComplexityResponse(qa.getQuestionName(), qa.getTimeComplexity(),
+							qa.getSpaceComplexity()),
+					perQuestion);
+		} else {
+			this.streamEach(emitter, this.questionSubmissions(interviewId), perQuestion);
+		}
+		return emitter;
+	}
+
+	public SseEmitter streamSummary(Long interviewId) {
+		SseEmitter emitter = new SseEmitter(timeoutMs);
+		AIFeedbackSummary stored = interviewReportService.findReport(interviewId).map(InterviewReport::getSummary)
+				.orElse(null);
+		if (stored != null) {
+			this.replay(emitter, List.of(stored));
+			return emitter;
+		}
+		List<QuestionSubmission> list = this.questionSubmissions(interviewId);
+		if (list.isEmpty()) {
+			this.replay(emitter, list);
+			return emitter;
+		}
+		aiService.streamSummary(list, chunk -> this.send(emitter, "token", chunk)).whenComplete((summary, error) -> {
+			if (error != null) {
+				this.send(emitter, "error", Map.of("message", String.valueOf(error.getMessage())));
+			} else if (summary == null) {
+				this.send(emitter, "error", Map.of("message", "Gemini returned no usable summary"));
+			} else {
+				this.send(emitter, "result", summary);
+			}
+			this.send(emitter, "done", "");
+			emitter.complete();
+		});
+		return emitter;
+	}
+
+	private List<QuestionSubmission> questionSubmissions(Long interviewId) {
+		InterviewSubmission submission = interviewSubmissionRepo.findByInterviewId(interviewId).orElse(null);
+		if (submission == null) {
+			return List.of();
+		}
+		// Materialize the lazy collection on the request thread before fanning out
+		return List.copyOf(submission.getQuestionSubmissions());
+	}
+
+	/**
+	 * Sends one section of the per-interview analysis, which the report's other
+	 * endpoints share through the response cache. Falls back to the
+	 * per-question prompts when the combined reply is unusable.
+	 */
+	private <T> void streamCombined(SseEmitter emitter, List<QuestionSubmission> list,
+			Function<QuestionAnalysis, T> section, Function<QuestionSubmission, T> perQuestion) {
+		if (list.isEmpty()) {
+			this.replay(emitter, list);
+			return;
+		}
+		aiTaskExecutor.submit(() -> {
+			InterviewAnalysis analysis;
+			try {
+				analysis = aiService.combinedAnalysis(list);
+			} catch (Exception e) {
+				this.send(emitter, "error", Map.of("message", String.valueOf(e.getMessage())));
+				this.send(emitter, "done", "");
+				emitter.complete();
+				return null;
+			}
+			if (analysis == null) {
+				this.streamEach(emitter, list, perQuestion);
+			} else {
+				this.replay(emitter, analysis.getQuestions().stream().map(section).toList());
+			}
+			return null;
+		});
+	}
+
+	private <T> void streamEach(SseEmitter emitter, List<QuestionSubmission> list,
+			Function<QuestionSubmission, T> analysis) {
+		if (list.isEmpty()) {
+			this.replay(emitter, list);
+			return;
+		}
+		AtomicInteger remaining = new AtomicInteger(list.size());
+		for (QuestionSubmission qs : list) {
+			aiTaskExecutor.submit(() -> {
+				try {
+					this.send(emitter, "result", analysis.apply(qs));
+				} catch (Exception e) {
+					this.send(emitter, "error", Map.of("questionName", qs.getQuestion().getTitle(), "message",
+							String.valueOf(e.getMessage())));
+				} finally {
+					if (remaining.decrementAndGet() == 0) {
+						this.send(emitter, "done", "");
+						emitter.complete();
+					}
+				}
+				return null;
+			});
+		}
+	}
+
+	private void replay(SseEmitter emitter, List<?> results) {
+		for (Object result : results) {
+			this.send(emitter, "result", result);
+		}
+		this.send(emitter, "done", "");
+		emitter.complete();
+	}
+
+	private void send(SseEmitter emitter, String event, Object data) {
+		try {
+			emitter.send(SseEmitter.event().name(event).data(data));
+		} catch (IOException | IllegalStateException e) {
+			// Client went away; remaining results are still cached for the next view
+		}
+	}
+}
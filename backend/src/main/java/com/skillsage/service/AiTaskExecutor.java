@@ -0,0 +1,98 @@
+package com.skillsage.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Runs per-question AI work on virtual threads. A global semaphore bounds how
+ * many tasks talk to the external backends at once across all requests.
+ * {@link #invokeAll(List)} behaves like a shutdown-on-failure scope: results
+ * come back in task order and the first failure cancels the siblings.
+ */
+@Component
+public class AiTaskExecutor {
+
+	@Value("${ai.fan-out.max-concurrency:16}")
+	private int maxConcurrency;
+
+	private ExecutorService executor;
+	private Semaphore permits;
+
+	@PostConstruct
+	public void init() {
+		executor = Executors.newVirtualThreadPerTaskExecutor();
+		permits = new Semaphore(maxConcurrency);
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		executor.shutdownNow();
+	}
+
+	public <T> Future<T> submit(Callable<T> task) {
+		return executor.submit(this.withPermit(task));
+	}
+
+	public <T> List<T> invokeAll(List<Callable<T>> tasks) {
+		// Futures are taken in completion order, so a failure surfaces (and
+		// cancels the siblings) as soon as it happens, not after earlier tasks
+		CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+		Map<Future<T>, Integer> positions = new HashMap<>();
+		for (int i = 0; i < tasks.size(); i++) {
+			positions.put(completion.submit(this.withPermit(tasks.get(i))), i);
+		}
+		try {
+			List<T> results = new ArrayList<>(Collections.nCopies(tasks.size(), null));
+			for (int done = 0; done < tasks.size(); done++) {
+				Future<T> future = completion.take();
+				results.set(positions.get(future), future.get());
+			}
+			return results;
+		} catch (ExecutionException e) {
+			cancelAll(positions.keySet());
+			if (e.getCause() instanceof RuntimeException runtime) {
+				throw runtime;
+			}
+			throw new IllegalStateException(e.getCause());
+		} catch (InterruptedException e) {
+			cancelAll(positions.keySet());
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for AI tasks", e);
+		}
+	}
+
+	private <T> Callable<T> withPermit(Callable<T> task) {
+		return () -> {
+			permits.acquire();
+			try {
+				return task.call();
+			} finally {
+				permits.release();
+			}
+		};
+	}
+
+	private static void cancelAll(Collection<? extends Future<?>> futures) {
+		for (Future<?> future : futures) {
+			future.cancel(true);
+		}
+	}
+}
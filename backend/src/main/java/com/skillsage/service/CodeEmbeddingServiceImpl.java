@@ -1,60 +1,113 @@
 package com.skillsage.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
+
+import com.skillsage.exception.DependencyUnavailableException;
+
+import com.skillsage.service.embedding.CodeNormalizer;
+import com.skillsage.service.embedding.EmbeddingBatcher;
+import com.skillsage.service.embedding.EmbeddingCache;
+import com.skillsage.service.embedding.EmbeddingEngine;
+import com.skillsage.service.resilience.CircuitBreakerRegistry;
+
+import lombok.RequiredArgsConstructor;
 
 @Service
+@RequiredArgsConstructor
 public class CodeEmbeddingServiceImpl {
 
-	@Value("${huggingface.api-token}")
-	private String apiToken;
-
-	@Value("${huggingface.model-url}")
-	private String modelUrl;
+	private final EmbeddingEngine embeddingEngine;
+	private final EmbeddingBatcher embeddingBatcher;
+	private final EmbeddingCache embeddingCache;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
 
-	private final RestTemplate restTemplate = new RestTemplate();
+	@Value("${resilience.embedding.timeout-ms:15000}")
+	private long timeoutMs;
 
 	public float[] generateMeanEmbedding(String code) {
-		// 1. Prepare HTTP headers
-		HttpHeaders headers = new HttpHeaders();
-		headers.setContentType(MediaType.APPLICATION_JSON);
-		headers.setBearerAuth(apiToken);
-		 headers.setAccept(List.of(MediaType.APPLICATION_JSON)); 
-
-		// 2. Prepare body
-		Map<String, String> body = Map.of("inputs", code);
-		HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
-
-		// 3. Send request
-		ResponseEntity<List<List<Double>>> response = restTemplate.exchange(modelUrl, HttpMethod.POST, request,
-				new ParameterizedTypeReference<>() {
-				});
-
-		List<List<Double>> embeddings = response.getBody();
-		int tokenCount = embeddings.size();
-		int vectorSize = embeddings.get(0).size();
-
-		// 4. Compute mean
-		float[] mean = new float[vectorSize];
-		for (List<Double> tokenVec : embeddings) {
-			for (int i = 0; i < vectorSize; i++) {
-				mean[i] += tokenVec.get(i).floatValue();
+		return generateMeanEmbeddings(List.of(code)).get(0);
+	}
+
+	public List<float[]> generateMeanEmbeddings(List<String> codes) {
+		return generateMeanEmbeddings(codes, Arrays.asList(new String[codes.size()]));
+	}
+
+	/**
+	 * Embeds all snippets together; cached snippets are served from the
+	 * embedding cache and the rest share model invocations through the batcher.
+	 * Each snippet is normalized for its language before it is keyed and
+	 * embedded, so the cached vector is always the vector of the keyed text.
+	 * {@code languages} may hold nulls. Results are in the same order as
+	 * {@code codes}.
+	 *
+	 * @throws DependencyUnavailableException when the embedding backend fails,
+	 *                                        its circuit is open, or the
+	 *                                        results take longer than
+	 *                                        {@code resilience.embedding.timeout-ms}
+	 */
+	public List<float[]> generateMeanEmbeddings(List<String> codes, List<String> languages) {
+		String modelId = embeddingEngine.modelId();
+		List<float[]> result = new ArrayList<>(codes.size());
+		List<String> keys = new ArrayList<>(codes.size());
+		List<Integer> misses = new ArrayList<>();
+		List<String> normalizedMisses = new ArrayList<>();
+		for (int i = 0; i < codes.size(); i++) {
+			String normalized = CodeNormalizer.normalize(codes.get(i), languages.get(i));
+			String key = embeddingCache.key(normalized, modelId);
+			float[] cached = embeddingCache.get(key);
+			keys.add(key);
+			result.add(cached);
+			if (cached == null) {
+				misses.add(i);
+				normalizedMisses.add(normalized);
 			}
 		}
-		for (int i = 0; i < vectorSize; i++) {
-			mean[i] /= tokenCount;
+		if (misses.isEmpty()) {
+			return result;
 		}
+		// Fail before anything is queued so no batch work is wasted on a request
+		// that cannot complete
+		if (circuitBreakerRegistry.get("embedding").isOpen()) {
+			throw new DependencyUnavailableException("Embedding backend is unavailable (circuit open)");
+		}
+		List<CompletableFuture<float[]>> pending = normalizedMisses.stream().map(embeddingBatcher::submit).toList();
+		long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+		for (int j = 0; j < pending.size(); j++) {
+			int i = misses.get(j);
+			float[] embedding = await(pending.get(j), deadline);
+			embeddingCache.put(keys.get(i), embedding);
+			result.set(i, embedding);
+		}
+		return result;
+	}
+
+	private static float[] await(CompletableFuture<float[]> future, long deadline) {
+		try {
+			return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+		} catch (TimeoutException e) {
+			throw new DependencyUnavailableException("Embedding backend timed out", e);
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof DependencyUnavailableException unavailable) {
+				throw unavailable;
+			}
+			throw new DependencyUnavailableException("Embedding backend failed: " + e.getCause().getMessage(),
+					e.getCause());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new DependencyUnavailableException("Interrupted while waiting for embeddings", e);
+		}
+	}
 
-		return mean;
+	public String getModelId() {
+		return embeddingEngine.modelId();
 	}
-}
\ No newline at end of file
+}
@@ -3,12 +3,17 @@ package com.skillsage.service;
 import com.skillsage.dto.request.CreateInterviewRequest;
 import com.skillsage.dto.request.UpdateInterviewRequest;
 import com.skillsage.dto.response.InterviewResponse;
+import com.skillsage.dto.response.PageResponse;
+import com.skillsage.entity.enums.InterviewStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface IInterviewService {
     InterviewResponse createInterview(CreateInterviewRequest request);
     List<InterviewResponse> getInterviews();
+    PageResponse<InterviewResponse> getInterviewPage(String cursor, Integer size, InterviewStatus status,
+            LocalDateTime from, LocalDateTime to);
     InterviewResponse getInterviewById(Long id);
     InterviewResponse updateInterview(Long id, UpdateInterviewRequest request);
     void deleteInterview(Long id);
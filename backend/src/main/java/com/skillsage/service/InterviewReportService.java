@@ -0,0 +1,201 @@
+package com.skillsage.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.skillsage.dto.response.AIFeedbackSummary;
+import com.skillsage.dto.response.CodeQualityCheck;
+import com.skillsage.dto.response.CodeSubmissionTimeSpaceComplexityResponse;
+import com.skillsage.dto.response.PlagiarismResponse;
+import com.skillsage.entity.InterviewReport;
+import com.skillsage.entity.OutboxEvent;
+import com.skillsage.entity.enums.OutboxEventType;
+import com.skillsage.entity.enums.ReportStatus;
+import com.skillsage.repository.InterviewReportRepository;
+import com.skillsage.service.outbox.OutboxHandler;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds the recruiter report for a submitted interview in the background and
+ * serves it from the {@code interview_report} table. Sections are persisted
+ * one at a time, so a retried job only computes what is still missing and a
+ * recruiter opening the report early sees the finished parts immediately.
+ * The row is created with an upsert and every write-back locks it, so jobs
+ * racing on the same interview cannot clobber each other.
+ * <p>
+ * Jobs run without a request locale, so the plagiarism section is stored
+ * without its recruiter-facing messages and they are rendered for the
+ * reader's locale when the section is served.
+ */
+@Service
+@RequiredArgsConstructor
+public class InterviewReportService implements OutboxHandler {
+
+	private final InterviewReportRepository interviewReportRepository;
+	private final AiServiceImpl aiService;
+	private final PlagiarismMessageService plagiarismMessageService;
+	private final TransactionTemplate transactionTemplate;
+
+	@Override
+	public OutboxEventType type() {
+		return OutboxEventType.INTERVIEW_REPORT;
+	}
+
+	@Override
+	public void handle(List<OutboxEvent> events) {
+		for (OutboxEvent event : events) {
+			this.generate(event.getAggregateId());
+		}
+	}
+
+	public InterviewReport generate(Long interviewId) {
+		transactionTemplate.executeWithoutResult(status -> interviewReportRepository.createIfAbsent(interviewId));
+		InterviewReport report = interviewReportRepository.findByInterviewId(interviewId).orElseThrow();
+		long revision = report.getPlagiarismRevision();
+		// Sections are computed outside any transaction; only the write-back locks
+		// the row. A failing section does not hold back the others: the error is
+		// rethrown at the end and the retried event only computes what is missing.
+		RuntimeException failure = null;
+		if (report.getPlagiarism() == null) {
+			failure = this.attempt(failure,
+					() -> this.savePlagiarism(interviewId, revision, aiService.detectPlagarism(interviewId)));
+		}
+		if (report.getComplexity() == null) {
+			failure = this.attempt(failure, () -> {
+				List<CodeSubmissionTimeSpaceComplexityResponse> complexity = aiService
+						.getComplexityAnalysis(interviewId);
+				this.saveSection(interviewId, r -> {
+					if (r.getComplexity() == null) {
+						r.setComplexity(complexity);
+					}
+				});
+			});
+		}
+		if (report.getCodeQuality() == null) {
+			failure = this.attempt(failure, () -> {
+				List<CodeQualityCheck> codeQuality = aiService.generateCodeQualityCheckResponse(interviewId);
+				this.saveSection(interviewId, r -> {
+					if (r.getCodeQuality() == null) {
+						r.setCodeQuality(codeQuality);
+					}
+				});
+			});
+		}
+		if (report.getSummary() == null) {
+			failure = this.attempt(failure, () -> {
+				AIFeedbackSummary summary = aiService.generateSummary(interviewId);
+				this.saveSection(interviewId, r -> {
+					if (r.getSummary() == null) {
+						r.setSummary(summary);
+					}
+				});
+			});
+		}
+		if (failure != null) {
+			throw failure;
+		}
+		return interviewReportRepository.findByInterviewId(interviewId).orElseThrow();
+	}
+
+	public Optional<InterviewReport> findReport(Long interviewId) {
+		return interviewReportRepository.findByInterviewId(interviewId);
+	}
+
+	/**
+	 * Stored plagiarism section with its messages rendered for the current
+	 * request's locale. A report whose section was invalidated by newer
+	 * embeddings gets it recomputed and written back here.
+	 */
+	public List<PlagiarismResponse> getPlagiarism(Long interviewId) {
+		Optional<InterviewReport> report = interviewReportRepository.findByInterviewId(interviewId);
+		if (report.isPresent() && report.get().getPlagiarism() != null) {
+			return this.localized(report.get().getPlagiarism(), LocaleContextHolder.getLocale());
+		}
+		// Computed on the request thread, so the messages are already in its locale
+		List<PlagiarismResponse> plagiarism = aiService.detectPlagarism(interviewId);
+		if (report.isPresent() && plagiarism != null) {
+			this.savePlagiarism(interviewId, report.get().getPlagiarismRevision(), plagiarism);
+		}
+		return plagiarism;
+	}
+
+	public List<CodeSubmissionTimeSpaceComplexityResponse> getComplexity(Long interviewId) {
+		return this.stored(interviewId, InterviewReport::getComplexity)
+				.orElseGet(() -> aiService.getComplexityAnalysis(interviewId));
+	}
+
+	public List<CodeQualityCheck> getCodeQuality(Long interviewId) {
+		return this.stored(interviewId, InterviewReport::getCodeQuality)
+				.orElseGet(() -> aiService.generateCodeQualityCheckResponse(interviewId));
+	}
+
+	public AIFeedbackSummary getSummary(Long interviewId) {
+		return this.stored(interviewId, InterviewReport::getSummary)
+				.orElseGet(() -> aiService.generateSummary(interviewId));
+	}
+
+	private <T> Optional<T> stored(Long interviewId, Function<InterviewReport, T> section) {
+		return interviewReportRepository.findByInterviewId(interviewId).map(section);
+	}
+
+	private RuntimeException attempt(RuntimeException failure, Runnable section) {
+		try {
+			section.run();
+		} catch (RuntimeException e) {
+			if (failure == null) {
+				return e;
+			}
+			failure.addSuppressed(e);
+		}
+		return failure;
+	}
+
+	private InterviewReport savePlagiarism(Long interviewId, long revision, List<PlagiarismResponse> plagiarism) {
+		if (plagiarism == null) {
+			return null;
+		}
+		// Only the locale-neutral scores are stored; see localized()
+		List<PlagiarismResponse> scores = plagiarism.stream()
+				.map(p -> new PlagiarismResponse(p.getPlagiarismChance(), p.isPlagraised(), null, p.getQuestionName()))
+				.toList();
+		return this.saveSection(interviewId, r -> {
+			// Newer embeddings arrived while this was computed: leave it for the next pass
+			if (r.getPlagiarism() == null && r.getPlagiarismRevision() == revision) {
+				r.setPlagiarism(scores);
+			}
+		});
+	}
+
+	private List<PlagiarismResponse> localized(List<PlagiarismResponse> scores, Locale locale) {
+		return scores.stream()
+				.map(p -> new PlagiarismResponse(p.getPlagiarismChance(), p.isPlagraised(),
+						plagiarismMessageService.render(p.getQuestionName(), p.getPlagiarismChance(), locale),
+						p.getQuestionName()))
+				.toList();
+	}
+
+	/**
+	 * Applies {@code update} to the row under a lock, so concurrent jobs for the
+	 * same interview never overwrite each other's sections.
+	 */
+	private InterviewReport saveSection(Long interviewId, Consumer<InterviewReport> update) {
+		return transactionTemplate.execute(status -> {
+			InterviewReport report = interviewReportRepository.lockByInterviewId(interviewId).orElseThrow();
+			update.accept(report);
+			boolean complete = report.getPlagiarism() != null && report.getComplexity() != null
+					&& report.getCodeQuality() != null && report.getSummary() != null;
+			report.setStatus(complete ? ReportStatus.COMPLETED : ReportStatus.PARTIAL);
+			report.setUpdatedAt(LocalDateTime.now());
+			return interviewReportRepository.save(report);
+		});
+	}
+}
@@ -5,6 +5,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -12,18 +13,22 @@ import com.skillsage.config.ContextService;
 import com.skillsage.dto.request.InterviewSubmissionRequest;
 import com.skillsage.dto.request.SubmissionDetail;
 import com.skillsage.dto.response.InterviewSubmissionResponse;
+import com.skillsage.dto.response.PageResponse;
 import com.skillsage.dto.response.QuestionSubmissionResponse;
-import com.skillsage.entity.CodeEmbedding;
 import com.skillsage.entity.Interview;
 import com.skillsage.entity.InterviewSubmission;
 import com.skillsage.entity.Question;
 import com.skillsage.entity.QuestionSubmission;
+import com.skillsage.entity.User;
 import com.skillsage.entity.enums.InterviewStatus;
+import com.skillsage.entity.enums.OutboxEventType;
+import com.skillsage.entity.enums.Role;
 import com.skillsage.entity.enums.SubmissionStatus;
-import com.skillsage.repository.CodeEmbeddingRepository;
 import com.skillsage.repository.InterviewRepository;
 import com.skillsage.repository.InterviewSubmissionRepository;
 import com.skillsage.repository.QuestionRepository;
+import com.skillsage.service.outbox.OutboxService;
+import com.skillsage.util.Cursors;
 
 import lombok.RequiredArgsConstructor;
 
@@ -35,8 +40,7 @@ public class InterviewSubmissionService {
 	private final QuestionRepository questionRepository;
 	private final InterviewSubmissionRepository interviewSubmissionRepository;
 	private final ContextService contextService;
-	private final CodeEmbeddingServiceImpl codeEmbeddingService;
-	private final CodeEmbeddingRepository codeEmbeddingRepository;
+	private final OutboxService outboxService;
 
 	@Transactional
 	public InterviewSubmission createSubmission(InterviewSubmissionRequest request) {
@@ -74,19 +78,12 @@ public class InterviewSubmissionService {
 		InterviewSubmission save = interviewSubmissionRepository.save(submission);
 		interview.setStatus(InterviewStatus.COMPLETED);
 		interviewRepository.save(interview);
-		Long candidateId = interview.getCandidate().getId();
-
-		// create embading and store in database
-		for (SubmissionDetail sd : request.getSubmissions()) {
-			float[] embedding = codeEmbeddingService.generateMeanEmbedding(sd.getCode());
-			CodeEmbedding entity = new CodeEmbedding();
-			entity.setEmbedding(embedding);
-			entity.setQuestionId(sd.getQuestionId());
-			entity.setCandidateId(candidateId);
-
-			// Step 3: Save
-			codeEmbeddingRepository.save(entity);
-		}
+
+		// Embeddings and the AI report are produced by the outbox worker once this
+		// transaction commits, so submitting is a pure DB write. The report does
+		// not wait for the stored vectors: plagiarism embeds on demand if needed.
+		outboxService.enqueue(OutboxEventType.EMBEDDING, save.getId(), null);
+		outboxService.enqueue(OutboxEventType.INTERVIEW_REPORT, interview.getId(), null);
 		return save;
 	}
 
@@ -97,16 +94,33 @@ public class InterviewSubmissionService {
 		if (submission == null) {
 				return null;
 		} else {
-				List<QuestionSubmissionResponse> questionResponses = submission.getQuestionSubmissions().stream()
-						.map(qs -> new QuestionSubmissionResponse(qs.getQuestion().getId(), qs.getQuestion().getTitle(),
-								qs.getCode(), qs.getLanguage(), qs.getStatus(), qs.getSubmittedAt()))
-						.collect(Collectors.toList());
-				InterviewSubmissionResponse interviewSubmissionResponse = new InterviewSubmissionResponse(
-						submission.getId(), submission.getInterview().getId(), submission.getCandidate().getId(),
-						submission.getCandidate().getEmail(), submission.getSubmittedAt(), questionResponses);
-		
-
-		return interviewSubmissionResponse;
+				return toResponse(submission);
 		}
 	}
+
+	/**
+	 * Keyset page of the current user's submissions: those made to a recruiter's
+	 * interviews, or a candidate's own.
+	 */
+	@Transactional(readOnly = true)
+	public PageResponse<InterviewSubmissionResponse> getSubmissionPage(String cursor, Integer size, LocalDateTime from,
+			LocalDateTime to, String language) {
+		User user = contextService.getCurrentUser();
+		boolean recruiter = user.getRole() == Role.RECRUITER;
+		int pageSize = Cursors.pageSize(size);
+		List<InterviewSubmission> rows = interviewSubmissionRepository.findPage(Cursors.decode(cursor),
+				recruiter ? user.getId() : null, recruiter ? null : user.getId(), from, to, language,
+				Limit.of(pageSize + 1));
+		return Cursors.page(rows, pageSize, InterviewSubmission::getId, this::toResponse);
+	}
+
+	private InterviewSubmissionResponse toResponse(InterviewSubmission submission) {
+		List<QuestionSubmissionResponse> questionResponses = submission.getQuestionSubmissions().stream()
+				.map(qs -> new QuestionSubmissionResponse(qs.getQuestion().getId(), qs.getQuestion().getTitle(),
+						qs.getCode(), qs.getLanguage(), qs.getStatus(), qs.getSubmittedAt()))
+				.collect(Collectors.toList());
+		return new InterviewSubmissionResponse(submission.getId(), submission.getInterview().getId(),
+				submission.getCandidate().getId(), submission.getCandidate().getEmail(), submission.getSubmittedAt(),
+				questionResponses);
+	}
 }
\ No newline at end of file
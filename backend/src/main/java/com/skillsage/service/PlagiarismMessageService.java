@@ -0,0 +1,149 @@
+package com.skillsage.service;
+
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Service;
+
+import com.skillsage.exception.GeminiException;
+import com.skillsage.service.llm.LlmClient;
+import com.skillsage.service.llm.LlmPriority;
+import com.skillsage.util.LruCache;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Recruiter-facing plagiarism messages. By default they are rendered from the
+ * {@code plagiarism.message.*} templates in {@code messages*.properties}, one
+ * per similarity band, which the message source compiles once per locale.
+ * {@code ai.plagiarism.message-mode=llm} restores the synchronous Gemini
+ * phrasing; {@code ai.plagiarism.llm-enrichment=true} keeps the template
+ * response and asks Gemini in the background, serving the enriched text on
+ * later views.
+ */
+@Service
+@RequiredArgsConstructor
+public class PlagiarismMessageService {
+
+	public enum Band {
+		LOW, MEDIUM, HIGH
+	}
+
+	private final MessageSource messageSource;
+	private final LlmClient llmClient;
+
+	@Value("${ai.plagiarism.message-mode:template}")
+	private String messageMode;
+
+	@Value("${ai.plagiarism.llm-enrichment:false}")
+	private boolean llmEnrichment;
+
+	@Value("${ai.plagiarism.medium-threshold:70}")
+	private double mediumThreshold;
+
+	@Value("${ai.plagiarism.high-threshold:90}")
+	private double highThreshold;
+
+	private final LruCache<String, String> enriched = new LruCache<>(5_000);
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+	public boolean isPlagiarized(double similarityPercent) {
+		return similarityPercent > highThreshold;
+	}
+
+	public Band band(double similarityPercent) {
+		if (similarityPercent > highThreshold) {
+			return Band.HIGH;
+		}
+		return similarityPercent >= mediumThreshold ? Band.MEDIUM : Band.LOW;
+	}
+
+	public String render(String questionTitle, double similarityPercent, Locale locale) {
+		String similarity = similarityPercent == 0 ? "0" : String.valueOf(similarityPercent);
+		boolean plagiarized = isPlagiarized(similarityPercent);
+		if ("llm".equalsIgnoreCase(messageMode)) {
+			try {
+				return llmClient.generate(this.buildPrompt(questionTitle, similarity, plagiarized, locale),
+						LlmPriority.BACKGROUND);
+			} catch (GeminiException e) {
+				// Provider unavailable or rate limited: fall back to the template
+			}
+		}
+
+		Band band = band(similarityPercent);
+		if (llmEnrichment) {
+			String key = locale.toLanguageTag() + "|" + band + "|" + similarity + "|" + questionTitle;
+			String cached = enriched.get(key);
+			if (cached != null) {
+				return cached;
+			}
+			// One background call per key, however many views arrive before it lands
+			if (pending.add(key)) {
+				llmClient.generateAsync(this.buildPrompt(questionTitle, similarity, plagiarized, locale),
+						LlmPriority.BACKGROUND).whenComplete((text, error) -> {
+							if (error == null) {
+								enriched.put(key, text);
+							}
+							pending.remove(key);
+						});
+			}
+		}
+		return messageSource.getMessage("plagiarism.message." + band.name().toLowerCase(),
+				new Object[] { questionTitle, similarity }, locale);
+	}
+
+	private String buildPrompt(String questionTitle, String similarity, boolean isPlagiarized, Locale locale) {
+		String language = locale.getDisplayLanguage(Locale.ENGLISH);
+		if (language.isEmpty()) {
+			language = "English";
+		}
+
+		String prompt = "";
+		if (!isPlagiarized) {
+			prompt = String.format(
+					"""
+								You are a coding evaluator and must generate a short plagiarism feedback message in natural %s using the provided data.
+								This message is for the recruiter, so it should be **professional**, **clear**, and **helpful**.
+								Always include:
+								- The question title
+
+								Data:
+								Question Title: %s
+
+								Example Response:
+									The submission for "%s" shows a low similarity score, with a unique approach to solving the problem. The logic and structure appear to be written independently, suggesting that the code is original and not plagiarized. Please check at your end as well.
+
+								Output:
+								<your formatted response here>
+
+							""",
+					language, questionTitle, questionTitle);
+		} else {
+			prompt =
+
+					String.format(
+							"""
+										You are a coding evaluator and must generate a short plagiarism feedback message in natural %s using the provided data.
+										This message is for the recruiter, so it should be **professional**, **clear**, and **helpful**.
+										Always include:
+										- The question title
+										- The similarity percentage
+
+										Data:
+										Question Title: %s
+										Similarity Percentage: %s
+										Example Response:
+											The submission for "%s" shows a HIGH similarity with existing known solutions. The structure and logic are nearly identical, with only minor changes in variable names and formatting. Based on this, it is likely that the code is plagiarized.Please check at your end as well
+
+										Output:
+										<your formatted response here>
+
+									""",
+							language, questionTitle, similarity, questionTitle);
+		}
+		return prompt;
+	}
+}
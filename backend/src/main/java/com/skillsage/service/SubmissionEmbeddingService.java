@@ -0,0 +1,132 @@
+package com.skillsage.service;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.skillsage.entity.CodeEmbedding;
+import com.skillsage.entity.InterviewSubmission;
+import com.skillsage.entity.OutboxEvent;
+import com.skillsage.entity.QuestionSubmission;
+import com.skillsage.entity.enums.OutboxEventType;
+import com.skillsage.repository.CodeEmbeddingRepository;
+import com.skillsage.repository.InterviewReportRepository;
+import com.skillsage.repository.InterviewSubmissionRepository;
+import com.skillsage.service.fingerprint.FingerprintService;
+import com.skillsage.service.outbox.OutboxHandler;
+import com.skillsage.service.vector.Int8Quantizer;
+import com.skillsage.service.vector.VectorIndexService;
+import com.skillsage.util.VectorMath;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Outbox handler that embeds submitted code after the submission has
+ * committed. Claimed {@code EMBEDDING} events are processed in batches: the
+ * snippets of every submission in the batch share one embedding call and the
+ * rows are written with a single {@code saveAll}. Rows are unique per question
+ * submission and model, so a replayed event only embeds what is still missing
+ * and a concurrent replay's inserts are skipped by the database.
+ */
+@Service
+@RequiredArgsConstructor
+public class SubmissionEmbeddingService implements OutboxHandler {
+
+	private final CodeEmbeddingServiceImpl codeEmbeddingService;
+	private final CodeEmbeddingRepository codeEmbeddingRepository;
+	private final InterviewSubmissionRepository interviewSubmissionRepository;
+	private final InterviewReportRepository interviewReportRepository;
+	private final VectorIndexService vectorIndexService;
+	private final FingerprintService fingerprintService;
+	private final TransactionTemplate transactionTemplate;
+
+	@Value("${embedding.outbox.batch-size:16}")
+	private int batchSize;
+
+	@Override
+	public OutboxEventType type() {
+		return OutboxEventType.EMBEDDING;
+	}
+
+	@Override
+	public int batchSize() {
+		return batchSize;
+	}
+
+	@Override
+	public void handle(List<OutboxEvent> events) {
+		List<InterviewSubmission> submissions = interviewSubmissionRepository
+				.findWithQuestionSubmissionsByIdIn(events.stream().map(OutboxEvent::getAggregateId).toList());
+		String modelId = codeEmbeddingService.getModelId();
+
+		List<QuestionSubmission> pending = new ArrayList<>();
+		List<Long> candidateIds = new ArrayList<>();
+		for (InterviewSubmission submission : submissions) {
+			for (QuestionSubmission qs : this.notYetEmbedded(submission.getQuestionSubmissions(), modelId)) {
+				pending.add(qs);
+				candidateIds.add(submission.getCandidate().getId());
+			}
+		}
+
+		if (pending.isEmpty()) {
+			return;
+		}
+
+		// Remote call happens outside any transaction
+		List<float[]> embeddings = codeEmbeddingService.generateMeanEmbeddings(
+				pending.stream().map(QuestionSubmission::getCode).toList(),
+				pending.stream().map(QuestionSubmission::getLanguage).toList());
+
+		List<CodeEmbedding> entities = new ArrayList<>(pending.size());
+		for (int i = 0; i < pending.size(); i++) {
+			entities.add(this.toEntity(pending.get(i), candidateIds.get(i), embeddings.get(i), modelId));
+		}
+
+		transactionTemplate.executeWithoutResult(status -> {
+			// Flushed so the skipped inserts can be told apart from the written ones
+			List<CodeEmbedding> saved = codeEmbeddingRepository.saveAllAndFlush(entities);
+			Set<Long> inserted = new HashSet<>(
+					codeEmbeddingRepository.findExistingIds(saved.stream().map(CodeEmbedding::getId).toList()));
+			List<CodeEmbedding> written = saved.stream().filter(e -> inserted.contains(e.getId())).toList();
+			for (CodeEmbedding embedding : written) {
+				vectorIndexService.add(embedding);
+				fingerprintService.add(embedding);
+			}
+			// Other interviews' reports on these questions were scored without the
+			// new vectors; the batch's own reports never compare against themselves
+			if (!written.isEmpty()) {
+				interviewReportRepository.invalidatePlagiarism(written.stream().map(CodeEmbedding::getId).toList(),
+						submissions.stream().map(s -> s.getInterview().getId()).toList());
+			}
+		});
+	}
+
+	private CodeEmbedding toEntity(QuestionSubmission qs, Long candidateId, float[] embedding, String modelId) {
+		CodeEmbedding entity = new CodeEmbedding();
+		entity.setEmbedding(embedding);
+		entity.setQuestionId(qs.getQuestion().getId());
+		entity.setCandidateId(candidateId);
+		entity.setQuestionSubmissionId(qs.getId());
+		entity.setModelId(modelId);
+		// int8 codes are only read by the quantized index; without it they would
+		// just add a quarter of the vector's size to every row
+		if (vectorIndexService.isQuantized()) {
+			Int8Quantizer.QuantizedVector quantized = Int8Quantizer.quantize(VectorMath.normalize(embedding));
+			entity.setEmbeddingInt8(quantized.codes());
+			entity.setEmbeddingScale(quantized.scale());
+		}
+		entity.setMinhashSignature(fingerprintService.signature(qs.getCode(), qs.getLanguage()));
+		return entity;
+	}
+
+	private List<QuestionSubmission> notYetEmbedded(List<QuestionSubmission> questionSubmissions, String modelId) {
+		Set<Long> done = new HashSet<>(codeEmbeddingRepository.findEmbeddedQuestionSubmissionIds(
+				questionSubmissions.stream().map(QuestionSubmission::getId).toList(), modelId));
+		return questionSubmissions.stream().filter(qs -> !done.contains(qs.getId())).toList();
+	}
+}
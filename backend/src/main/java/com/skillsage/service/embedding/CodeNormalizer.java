@@ -0,0 +1,121 @@
+package com.skillsage.service.embedding;
+
+import java.util.Set;
+
+/**
+ * Canonical form of a snippet used for content addressing and as the text
+ * that gets embedded, so reformatting or re-commenting code changes neither.
+ * Comments are removed only in the syntax the language actually uses. Free-form
+ * languages have every run of whitespace collapsed to one space; in Python, and
+ * in any language not known to be free-form, line breaks and leading
+ * indentation are kept because they carry meaning, and only blank lines,
+ * trailing and inner-line whitespace runs are normalized.
+ */
+public final class CodeNormalizer {
+
+	private static final Set<String> SLASH_COMMENT_LANGUAGES = Set.of("java", "javascript", "js", "typescript",
+			"ts", "c", "cpp", "c++", "csharp", "c#", "go", "golang", "kotlin", "swift", "rust", "scala", "php", "dart");
+
+	private CodeNormalizer() {
+	}
+
+	public static String normalize(String code, String language) {
+		if (code == null) {
+			return "";
+		}
+		String lang = language == null ? "" : language.trim().toLowerCase();
+		boolean hashComments = lang.startsWith("py");
+		boolean slashComments = SLASH_COMMENT_LANGUAGES.contains(lang);
+		boolean keepLayout = !slashComments;
+
+		StringBuilder out = new StringBuilder(code.length());
+		int i = 0;
+		int n = code.length();
+		char quote = 0;
+		boolean lineStart = true;
+		while (i < n) {
+			char c = code.charAt(i);
+			if (quote != 0) {
+				out.append(c);
+				if (c == '\\' && i + 1 < n) {
+					out.append(code.charAt(++i));
+				} else if (c == quote) {
+					quote = 0;
+				}
+				i++;
+				continue;
+			}
+			if (keepLayout && lineStart) {
+				// Leading indentation is copied verbatim
+				int start = i;
+				while (i < n && (code.charAt(i) == ' ' || code.charAt(i) == '\t')) {
+					i++;
+				}
+				out.append(code, start, i);
+				lineStart = false;
+				continue;
+			}
+			if (c == '"' || c == '\'' || c == '`') {
+				quote = c;
+				out.append(c);
+				i++;
+			} else if (slashComments && c == '/' && i + 1 < n && code.charAt(i + 1) == '/') {
+				i = skipLine(code, i);
+			} else if (slashComments && c == '/' && i + 1 < n && code.charAt(i + 1) == '*') {
+				int end = code.indexOf("*/", i + 2);
+				i = end < 0 ? n : end + 2;
+				if (out.length() > 0 && !endsWithWhitespace(out)) {
+					out.append(' ');
+				}
+			} else if (hashComments && c == '#') {
+				i = skipLine(code, i);
+			} else if (keepLayout && (c == '\n' || c == '\r')) {
+				endLine(out);
+				i++;
+				lineStart = true;
+			} else if (Character.isWhitespace(c)) {
+				if (out.length() > 0 && !endsWithWhitespace(out)) {
+					out.append(' ');
+				}
+				i++;
+			} else {
+				out.append(c);
+				i++;
+			}
+		}
+		if (keepLayout) {
+			endLine(out);
+		}
+		int end = out.length();
+		while (end > 0 && Character.isWhitespace(out.charAt(end - 1))) {
+			end--;
+		}
+		return out.substring(0, end);
+	}
+
+	/**
+	 * Terminates the current line without trailing whitespace, dropping it
+	 * entirely when nothing but indentation (or a comment) was on it.
+	 */
+	private static void endLine(StringBuilder out) {
+		int lineBegin = out.lastIndexOf("\n") + 1;
+		int end = out.length();
+		while (end > lineBegin && (out.charAt(end - 1) == ' ' || out.charAt(end - 1) == '\t')) {
+			end--;
+		}
+		out.setLength(end);
+		if (end > lineBegin) {
+			out.append('\n');
+		}
+	}
+
+	private static boolean endsWithWhitespace(StringBuilder out) {
+		char last = out.charAt(out.length() - 1);
+		return last == ' ' || last == '\t' || last == '\n';
+	}
+
+	private static int skipLine(String code, int from) {
+		int end = code.indexOf('\n', from);
+		return end < 0 ? code.length() : end;
+	}
+}
@@ -0,0 +1,139 @@
+package com.skillsage.service.embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.skillsage.exception.DependencyUnavailableException;
+import com.skillsage.service.resilience.CircuitBreaker;
+import com.skillsage.service.resilience.CircuitBreakerRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Micro-batching collector in front of the {@link EmbeddingEngine}. Requests
+ * from concurrent callers are queued and flushed as one model invocation once
+ * {@code embedding.batch.max-size} snippets are waiting or the oldest one has
+ * waited {@code embedding.batch.max-wait-ms}. The worker pool is the
+ * embedding bulkhead, and every model invocation goes through the
+ * {@code embedding} circuit breaker.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmbeddingBatcher {
+
+	private final EmbeddingEngine embeddingEngine;
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+	@Value("${embedding.batch.max-size:32}")
+	private int maxBatchSize;
+
+	@Value("${embedding.batch.max-wait-ms:10}")
+	private long maxWaitMs;
+
+	@Value("${embedding.batch.workers:2}")
+	private int workers;
+
+	private final BlockingQueue<PendingEmbedding> queue = new LinkedBlockingQueue<>();
+	private CircuitBreaker breaker;
+	private ExecutorService batchExecutor;
+	private Thread collector;
+	private volatile boolean running = true;
+
+	private record PendingEmbedding(String code, CompletableFuture<float[]> result) {
+	}
+
+	@PostConstruct
+	public void start() {
+		breaker = circuitBreakerRegistry.get("embedding");
+		// Bounded hand-off: when every worker is busy the collector runs the batch
+		// itself, which naturally lets the next batch grow larger
+		batchExecutor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(workers), r -> {
+					Thread t = new Thread(r, "embedding-batch");
+					t.setDaemon(true);
+					return t;
+				}, new ThreadPoolExecutor.CallerRunsPolicy());
+		collector = new Thread(this::collect, "embedding-collector");
+		collector.setDaemon(true);
+		collector.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		collector.interrupt();
+		batchExecutor.shutdown();
+	}
+
+	public CompletableFuture<float[]> submit(String code) {
+		CompletableFuture<float[]> result = new CompletableFuture<>();
+		queue.add(new PendingEmbedding(code, result));
+		return result;
+	}
+
+	private void collect() {
+		while (running) {
+			try {
+				PendingEmbedding first = queue.take();
+				List<PendingEmbedding> batch = new ArrayList<>(maxBatchSize);
+				batch.add(first);
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+				while (batch.size() < maxBatchSize) {
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						queue.drainTo(batch, maxBatchSize - batch.size());
+						break;
+					}
+					PendingEmbedding next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+				batchExecutor.execute(() -> flush(batch));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void flush(List<PendingEmbedding> batch) {
+		List<String> codes = new ArrayList<>(batch.size());
+		for (PendingEmbedding pending : batch) {
+			codes.add(pending.code());
+		}
+		CircuitBreaker.Permit permit = breaker.tryAcquire();
+		if (permit == null) {
+			DependencyUnavailableException open = new DependencyUnavailableException(
+					"Embedding backend is unavailable (circuit open)");
+			for (PendingEmbedding pending : batch) {
+				pending.result().completeExceptionally(open);
+			}
+			return;
+		}
+		try {
+			List<float[]> embeddings = embeddingEngine.embedBatch(codes);
+			breaker.onSuccess(permit);
+			for (int i = 0; i < batch.size(); i++) {
+				batch.get(i).result().complete(embeddings.get(i));
+			}
+		} catch (Exception e) {
+			breaker.onFailure(permit);
+			for (PendingEmbedding pending : batch) {
+				pending.result().completeExceptionally(e);
+			}
+		}
+	}
+}
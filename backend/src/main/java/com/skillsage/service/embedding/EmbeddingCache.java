@@ -0,0 +1,97 @@
+package com.skillsage.service.embedding;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import com.skillsage.util.Hashing;
+import com.skillsage.util.LruCache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Two-tier, content-addressed embedding cache: a bounded in-heap LRU in front
+ * of Redis. Keys are the SHA-256 of the text that was embedded, which callers
+ * normalize with {@link CodeNormalizer} first, plus the model id.
+ * Redis failures are treated as misses so the cache never breaks embedding.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmbeddingCache {
+
+	private final RedisConnectionFactory redisConnectionFactory;
+
+	@Value("${embedding.cache.heap-entries:10000}")
+	private int heapEntries;
+
+	@Value("${embedding.cache.redis-enabled:true}")
+	private boolean redisEnabled;
+
+	@Value("${embedding.cache.redis-ttl-hours:168}")
+	private long redisTtlHours;
+
+	private LruCache<String, float[]> heap;
+	private RedisTemplate<String, byte[]> redis;
+
+	@PostConstruct
+	public void init() {
+		heap = new LruCache<>(heapEntries);
+		redis = new RedisTemplate<>();
+		redis.setConnectionFactory(redisConnectionFactory);
+		redis.setKeySerializer(RedisSerializer.string());
+		redis.setValueSerializer(RedisSerializer.byteArray());
+		redis.afterPropertiesSet();
+	}
+
+	public String key(String normalizedCode, String modelId) {
+		return "emb:" + modelId + ":" + Hashing.sha256Hex(normalizedCode);
+	}
+
+	public float[] get(String key) {
+		float[] cached = heap.get(key);
+		if (cached != null || !redisEnabled) {
+			return cached;
+		}
+		try {
+			byte[] bytes = redis.opsForValue().get(key);
+			if (bytes != null) {
+				cached = decode(bytes);
+				heap.put(key, cached);
+			}
+		} catch (RuntimeException e) {
+			// Redis unavailable: fall through to the model
+		}
+		return cached;
+	}
+
+	public void put(String key, float[] embedding) {
+		heap.put(key, embedding);
+		if (!redisEnabled) {
+			return;
+		}
+		try {
+			redis.opsForValue().set(key, encode(embedding), Duration.ofHours(redisTtlHours));
+		} catch (RuntimeException e) {
+			// Best effort only
+		}
+	}
+
+	private static byte[] encode(float[] vector) {
+		ByteBuffer buffer = ByteBuffer.allocate(vector.length * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+		buffer.asFloatBuffer().put(vector);
+		return buffer.array();
+	}
+
+	private static float[] decode(byte[] bytes) {
+		float[] vector = new float[bytes.length / Float.BYTES];
+		ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer().get(vector);
+		return vector;
+	}
+}
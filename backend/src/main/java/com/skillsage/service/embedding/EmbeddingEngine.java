@@ -0,0 +1,33 @@
+package com.skillsage.service.embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Produces a mean-pooled code embedding for a snippet. Implementations are
+ * selected with the {@code embedding.engine} property.
+ */
+public interface EmbeddingEngine {
+
+	float[] embed(String code);
+
+	/**
+	 * Embeds several snippets in one model invocation. The default falls back to
+	 * one call per snippet for backends without native batching.
+	 */
+	default List<float[]> embedBatch(List<String> codes) {
+		List<float[]> result = new ArrayList<>(codes.size());
+		for (String code : codes) {
+			result.add(embed(code));
+		}
+		return result;
+	}
+
+	/**
+	 * Identifies the model (and backend) that produced the vectors, so cached or
+	 * persisted embeddings are never mixed across models.
+	 */
+	String modelId();
+
+	int dimension();
+}
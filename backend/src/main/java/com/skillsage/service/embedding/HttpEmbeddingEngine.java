@@ -0,0 +1,122 @@
+package com.skillsage.service.embedding;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestTemplate;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Remote backend calling the hosted HuggingFace feature-extraction endpoint.
+ */
+@Component
+@ConditionalOnProperty(name = "embedding.engine", havingValue = "http", matchIfMissing = true)
+public class HttpEmbeddingEngine implements EmbeddingEngine {
+
+	@Value("${huggingface.api-token}")
+	private String apiToken;
+
+	@Value("${huggingface.model-url}")
+	private String modelUrl;
+
+	@Value("${embedding.dimension:768}")
+	private int dimension;
+
+	@Value("${embedding.http.connect-timeout-ms:3000}")
+	private int connectTimeoutMs;
+
+	@Value("${embedding.http.read-timeout-ms:10000}")
+	private int readTimeoutMs;
+
+	private RestTemplate restTemplate;
+
+	@PostConstruct
+	public void init() {
+		SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+		requestFactory.setConnectTimeout(connectTimeoutMs);
+		requestFactory.setReadTimeout(readTimeoutMs);
+		restTemplate = new RestTemplate(requestFactory);
+	}
+
+	@Override
+	public float[] embed(String code) {
+		// 1. Prepare HTTP headers
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.setBearerAuth(apiToken);
+		headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+
+		// 2. Prepare body
+		Map<String, String> body = Map.of("inputs", code);
+		HttpEntity<Map<String, String>> request = new HttpEntity<>(body, headers);
+
+		// 3. Send request
+		ResponseEntity<List<List<Double>>> response = restTemplate.exchange(modelUrl, HttpMethod.POST, request,
+				new ParameterizedTypeReference<>() {
+				});
+
+		return meanPool(response.getBody());
+	}
+
+	@Override
+	public List<float[]> embedBatch(List<String> codes) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		headers.setBearerAuth(apiToken);
+		headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+
+		// A list of inputs returns one token matrix per snippet
+		Map<String, List<String>> body = Map.of("inputs", codes);
+		HttpEntity<Map<String, List<String>>> request = new HttpEntity<>(body, headers);
+
+		ResponseEntity<List<List<List<Double>>>> response = restTemplate.exchange(modelUrl, HttpMethod.POST,
+				request, new ParameterizedTypeReference<>() {
+				});
+
+		List<float[]> result = new ArrayList<>(codes.size());
+		for (List<List<Double>> embeddings : response.getBody()) {
+			result.add(meanPool(embeddings));
+		}
+		return result;
+	}
+
+	private float[] meanPool(List<List<Double>> embeddings) {
+		int tokenCount = embeddings.size();
+		int vectorSize = embeddings.get(0).size();
+
+		// 4. Compute mean
+		float[] mean = new float[vectorSize];
+		for (List<Double> tokenVec : embeddings) {
+			for (int i = 0; i < vectorSize; i++) {
+				mean[i] += tokenVec.get(i).floatValue();
+			}
+		}
+		for (int i = 0; i < vectorSize; i++) {
+			mean[i] /= tokenCount;
+		}
+
+		return mean;
+	}
+
+	@Override
+	public String modelId() {
+		return "http:" + modelUrl;
+	}
+
+	@Override
+	public int dimension() {
+		return dimension;
+	}
+}
@@ -0,0 +1,163 @@
+package com.skillsage.service.embedding;
+
+import java.nio.FloatBuffer;
+import java.nio.LongBuffer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import ai.onnxruntime.OnnxTensor;
+import ai.onnxruntime.OrtEnvironment;
+import ai.onnxruntime.OrtException;
+import ai.onnxruntime.OrtSession;
+import ai.onnxruntime.OrtSession.SessionOptions.OptLevel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * In-process backend running a local CodeBERT-compatible ONNX export on the CPU.
+ * The model directory must contain {@code model.onnx}, {@code vocab.json} and
+ * {@code merges.txt}.
+ */
+@Component
+@ConditionalOnProperty(name = "embedding.engine", havingValue = "onnx")
+public class OnnxEmbeddingEngine implements EmbeddingEngine {
+
+	@Value("${embedding.onnx.model-dir}")
+	private String modelDir;
+
+	@Value("${embedding.onnx.max-tokens:512}")
+	private int maxTokens;
+
+	@Value("${embedding.onnx.intra-op-threads:2}")
+	private int intraOpThreads;
+
+	@Value("${embedding.onnx.max-concurrency:4}")
+	private int maxConcurrency;
+
+	@Value("${embedding.dimension:768}")
+	private int dimension;
+
+	private OrtEnvironment environment;
+	private OrtSession session;
+	private RobertaBpeTokenizer tokenizer;
+	private Semaphore permits;
+	private boolean needsTokenTypeIds;
+
+	@PostConstruct
+	public void init() throws Exception {
+		Path dir = Path.of(modelDir);
+		tokenizer = RobertaBpeTokenizer.load(dir.resolve("vocab.json"), dir.resolve("merges.txt"));
+
+		environment = OrtEnvironment.getEnvironment();
+		try (OrtSession.SessionOptions options = new OrtSession.SessionOptions()) {
+			options.setOptimizationLevel(OptLevel.ALL_OPT);
+			options.setIntraOpNumThreads(intraOpThreads);
+			options.setInterOpNumThreads(1);
+			session = environment.createSession(dir.resolve("model.onnx").toString(), options);
+		}
+		needsTokenTypeIds = session.getInputNames().contains("token_type_ids");
+		// Each run already uses intraOpThreads cores; cap concurrent runs so the
+		// engine never oversubscribes the CPU
+		permits = new Semaphore(maxConcurrency);
+	}
+
+	@PreDestroy
+	public void close() throws OrtException {
+		if (session != null) {
+			session.close();
+		}
+	}
+
+	@Override
+	public float[] embed(String code) {
+		return embedBatch(List.of(code)).get(0);
+	}
+
+	@Override
+	public List<float[]> embedBatch(List<String> codes) {
+		long[][] tokenized = new long[codes.size()][];
+		for (int i = 0; i < tokenized.length; i++) {
+			tokenized[i] = tokenizer.encode(codes.get(i), maxTokens);
+		}
+		permits.acquireUninterruptibly();
+		try {
+			return run(tokenized);
+		} catch (OrtException e) {
+			throw new IllegalStateException("ONNX embedding failed: " + e.getMessage(), e);
+		} finally {
+			permits.release();
+		}
+	}
+
+	private List<float[]> run(long[][] tokenized) throws OrtException {
+		int batch = tokenized.length;
+		int length = 0;
+		for (long[] ids : tokenized) {
+			length = Math.max(length, ids.length);
+		}
+
+		// Right-pad every sequence to the longest one and mask the padding out
+		long[] ids = new long[batch * length];
+		long[] mask = new long[batch * length];
+		Arrays.fill(ids, RobertaBpeTokenizer.PAD_ID);
+		for (int b = 0; b < batch; b++) {
+			System.arraycopy(tokenized[b], 0, ids, b * length, tokenized[b].length);
+			Arrays.fill(mask, b * length, b * length + tokenized[b].length, 1L);
+		}
+		long[] shape = { batch, length };
+
+		Map<String, OnnxTensor> inputs = new HashMap<>();
+		try {
+			inputs.put("input_ids", OnnxTensor.createTensor(environment, LongBuffer.wrap(ids), shape));
+			inputs.put("attention_mask", OnnxTensor.createTensor(environment, LongBuffer.wrap(mask), shape));
+			if (needsTokenTypeIds) {
+				inputs.put("token_type_ids",
+						OnnxTensor.createTensor(environment, LongBuffer.wrap(new long[batch * length]), shape));
+			}
+			try (OrtSession.Result result = session.run(inputs)) {
+				// last_hidden_state: [batch, length, dimension], read straight from the native buffer
+				FloatBuffer hidden = ((OnnxTensor) result.get(0)).getFloatBuffer();
+				int dim = hidden.remaining() / (batch * length);
+				List<float[]> means = new ArrayList<>(batch);
+				for (int b = 0; b < batch; b++) {
+					int tokens = tokenized[b].length;
+					float[] mean = new float[dim];
+					for (int t = 0; t < tokens; t++) {
+						int offset = (b * length + t) * dim;
+						for (int i = 0; i < dim; i++) {
+							mean[i] += hidden.get(offset + i);
+						}
+					}
+					for (int i = 0; i < dim; i++) {
+						mean[i] /= tokens;
+					}
+					means.add(mean);
+				}
+				return means;
+			}
+		} finally {
+			for (OnnxTensor tensor : inputs.values()) {
+				tensor.close();
+			}
+		}
+	}
+
+	@Override
+	public String modelId() {
+		return "onnx:" + Path.of(modelDir).getFileName();
+	}
+
+	@Override
+	public int dimension() {
+		return dimension;
+	}
+}
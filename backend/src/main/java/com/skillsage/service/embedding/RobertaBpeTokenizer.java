@@ -0,0 +1,160 @@
+package com.skillsage.service.embedding;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Byte-level BPE tokenizer compatible with the RoBERTa / CodeBERT
+ * {@code vocab.json} + {@code merges.txt} pair.
+ */
+public class RobertaBpeTokenizer {
+
+	public static final int BOS_ID = 0;
+	public static final int PAD_ID = 1;
+	public static final int EOS_ID = 2;
+	public static final int UNK_ID = 3;
+
+	private static final Pattern PRE_TOKENIZE = Pattern.compile(
+			"'s|'t|'re|'ve|'m|'ll|'d| ?\\p{L}+| ?\\p{N}+| ?[^\\s\\p{L}\\p{N}]+|\\s+(?!\\S)|\\s+");
+
+	private static final int MAX_CACHED_WORDS = 50_000;
+
+	private final Map<String, Integer> vocab;
+	private final Map<String, Integer> mergeRanks;
+	private final char[] byteEncoder = buildByteEncoder();
+	private final Map<String, int[]> wordCache = new ConcurrentHashMap<>();
+
+	public RobertaBpeTokenizer(Map<String, Integer> vocab, List<String> merges) {
+		this.vocab = vocab;
+		this.mergeRanks = new HashMap<>(merges.size() * 2);
+		int rank = 0;
+		for (String merge : merges) {
+			if (merge.isBlank() || merge.startsWith("#version")) {
+				continue;
+			}
+			mergeRanks.put(merge, rank++);
+		}
+	}
+
+	public static RobertaBpeTokenizer load(Path vocabFile, Path mergesFile) throws IOException {
+		Map<String, Integer> vocab;
+		try (InputStream in = Files.newInputStream(vocabFile)) {
+			vocab = new ObjectMapper().readValue(in, new TypeReference<Map<String, Integer>>() {
+			});
+		}
+		List<String> merges = Files.readAllLines(mergesFile, StandardCharsets.UTF_8);
+		return new RobertaBpeTokenizer(vocab, merges);
+	}
+
+	/**
+	 * Encodes the text as {@code <s> tokens </s>}, truncated so the whole
+	 * sequence fits in {@code maxLength}.
+	 */
+	public long[] encode(String text, int maxLength) {
+		List<Integer> ids = new ArrayList<>();
+		ids.add(BOS_ID);
+		Matcher matcher = PRE_TOKENIZE.matcher(text);
+		while (matcher.find() && ids.size() < maxLength - 1) {
+			for (int id : encodeWord(matcher.group())) {
+				if (ids.size() >= maxLength - 1) {
+					break;
+				}
+				ids.add(id);
+			}
+		}
+		ids.add(EOS_ID);
+
+		long[] result = new long[ids.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = ids.get(i);
+		}
+		return result;
+	}
+
+	private int[] encodeWord(String word) {
+		int[] cached = wordCache.get(word);
+		if (cached != null) {
+			return cached;
+		}
+
+		// Map raw UTF-8 bytes to the printable unicode alphabet used by the vocab
+		byte[] bytes = word.getBytes(StandardCharsets.UTF_8);
+		List<String> symbols = new ArrayList<>(bytes.length);
+		for (byte b : bytes) {
+			symbols.add(String.valueOf(byteEncoder[b & 0xFF]));
+		}
+
+		// Repeatedly apply the lowest-ranked merge until none applies
+		while (symbols.size() > 1) {
+			int bestRank = Integer.MAX_VALUE;
+			int bestIndex = -1;
+			for (int i = 0; i < symbols.size() - 1; i++) {
+				Integer rank = mergeRanks.get(symbols.get(i) + " " + symbols.get(i + 1));
+				if (rank != null && rank < bestRank) {
+					bestRank = rank;
+					bestIndex = i;
+				}
+			}
+			if (bestIndex < 0) {
+				break;
+			}
+			String first = symbols.get(bestIndex);
+			String second = symbols.get(bestIndex + 1);
+			List<String> merged = new ArrayList<>(symbols.size() - 1);
+			for (int i = 0; i < symbols.size(); i++) {
+				if (i < symbols.size() - 1 && symbols.get(i).equals(first) && symbols.get(i + 1).equals(second)) {
+					merged.add(first + second);
+					i++;
+				} else {
+					merged.add(symbols.get(i));
+				}
+			}
+			symbols = merged;
+		}
+
+		int[] ids = new int[symbols.size()];
+		for (int i = 0; i < ids.length; i++) {
+			ids[i] = vocab.getOrDefault(symbols.get(i), UNK_ID);
+		}
+		if (wordCache.size() < MAX_CACHED_WORDS) {
+			wordCache.put(word, ids);
+		}
+		return ids;
+	}
+
+	/**
+	 * GPT-2 byte-to-unicode table: printable bytes map to themselves, the rest
+	 * are shifted above 255 so every byte has a visible symbol.
+	 */
+	private static char[] buildByteEncoder() {
+		char[] table = new char[256];
+		boolean[] printable = new boolean[256];
+		for (int b = '!'; b <= '~'; b++) {
+			printable[b] = true;
+		}
+		for (int b = 0xA1; b <= 0xAC; b++) {
+			printable[b] = true;
+		}
+		for (int b = 0xAE; b <= 0xFF; b++) {
+			printable[b] = true;
+		}
+		int next = 0;
+		for (int b = 0; b < 256; b++) {
+			table[b] = printable[b] ? (char) b : (char) (256 + next++);
+		}
+		return table;
+	}
+}
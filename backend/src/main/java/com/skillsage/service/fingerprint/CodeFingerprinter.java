@@ -0,0 +1,184 @@
+package com.skillsage.service.fingerprint;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * Structural fingerprints of source code. Code is tokenized with comments and
+ * whitespace dropped, identifiers, numbers and strings are collapsed to
+ * placeholder tokens (so renaming variables changes nothing), k-grams of the
+ * token stream are hashed and winnowed, and the winnowed set is summarized as
+ * a MinHash signature whose agreement rate estimates Jaccard similarity.
+ */
+public final class CodeFingerprinter {
+
+	public static final int SIGNATURE_LENGTH = 64;
+
+	private static final int K = 5;
+	private static final int WINDOW = 4;
+
+	private static final Set<String> KEYWORDS = Set.of(
+			// shared / Java
+			"abstract", "boolean", "break", "byte", "case", "catch", "char", "class", "continue", "default", "do",
+			"double", "else", "enum", "extends", "final", "finally", "float", "for", "if", "implements", "import",
+			"instanceof", "int", "interface", "long", "new", "null", "private", "protected", "public", "return",
+			"short", "static", "super", "switch", "this", "throw", "throws", "try", "void", "while", "var", "true",
+			"false",
+			// JavaScript
+			"const", "let", "function", "typeof", "undefined", "of", "in", "async", "await", "yield", "delete",
+			// Python
+			"def", "elif", "lambda", "pass", "None", "True", "False", "and", "or", "not", "is", "with", "as", "from",
+			"global", "nonlocal", "raise", "except", "self");
+
+	private static final long[] MULTIPLIERS = new long[SIGNATURE_LENGTH];
+	private static final long[] OFFSETS = new long[SIGNATURE_LENGTH];
+
+	static {
+		SplittableRandom random = new SplittableRandom(0x5EEDL);
+		for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+			MULTIPLIERS[i] = random.nextLong() | 1L;
+			OFFSETS[i] = random.nextLong();
+		}
+	}
+
+	private CodeFingerprinter() {
+	}
+
+	public static int[] minHash(String code, String language) {
+		return minHash(fingerprints(code, language));
+	}
+
+	/**
+	 * The winnowed fingerprint set; short snippets yield only a handful, too few
+	 * for their MinHash estimate to mean anything.
+	 */
+	public static int[] fingerprints(String code, String language) {
+		return winnow(kGramHashes(tokenize(code, language)));
+	}
+
+	public static int[] tokenize(String code, String language) {
+		boolean python = language != null && language.toLowerCase().startsWith("py");
+		List<String> tokens = new ArrayList<>();
+		int i = 0;
+		int n = code == null ? 0 : code.length();
+		while (i < n) {
+			char c = code.charAt(i);
+			if (Character.isWhitespace(c)) {
+				i++;
+			} else if (!python && c == '/' && i + 1 < n && code.charAt(i + 1) == '/'
+					|| python && c == '#') {
+				int end = code.indexOf('\n', i);
+				i = end < 0 ? n : end;
+			} else if (!python && c == '/' && i + 1 < n && code.charAt(i + 1) == '*') {
+				int end = code.indexOf("*/", i + 2);
+				i = end < 0 ? n : end + 2;
+			} else if (Character.isJavaIdentifierStart(c)) {
+				int start = i;
+				while (i < n && Character.isJavaIdentifierPart(code.charAt(i))) {
+					i++;
+				}
+				String word = code.substring(start, i);
+				tokens.add(KEYWORDS.contains(word) ? word : "I");
+			} else if (Character.isDigit(c)) {
+				while (i < n && (Character.isLetterOrDigit(code.charAt(i)) || code.charAt(i) == '.')) {
+					i++;
+				}
+				tokens.add("N");
+			} else if (c == '"' || c == '\'' || c == '`') {
+				i++;
+				while (i < n && code.charAt(i) != c) {
+					i += code.charAt(i) == '\\' ? 2 : 1;
+				}
+				i++;
+				tokens.add("S");
+			} else {
+				tokens.add(String.valueOf(c));
+				i++;
+			}
+		}
+		int[] hashes = new int[tokens.size()];
+		for (int t = 0; t < hashes.length; t++) {
+			hashes[t] = tokens.get(t).hashCode();
+		}
+		return hashes;
+	}
+
+	static int[] kGramHashes(int[] tokens) {
+		if (tokens.length < K) {
+			return tokens.length == 0 ? new int[0] : new int[] { Arrays.hashCode(tokens) };
+		}
+		int[] grams = new int[tokens.length - K + 1];
+		for (int i = 0; i < grams.length; i++) {
+			int h = 1;
+			for (int j = 0; j < K; j++) {
+				h = 31 * h + tokens[i + j];
+			}
+			grams[i] = mix(h);
+		}
+		return grams;
+	}
+
+	/**
+	 * Winnowing: keeps the rightmost minimum hash of every window of
+	 * {@code WINDOW} consecutive k-grams. Returns the sorted distinct set.
+	 */
+	static int[] winnow(int[] grams) {
+		if (grams.length <= WINDOW) {
+			return Arrays.stream(grams).distinct().sorted().toArray();
+		}
+		int[] selected = new int[grams.length];
+		int count = 0;
+		int lastIndex = -1;
+		for (int start = 0; start + WINDOW <= grams.length; start++) {
+			int minIndex = start;
+			for (int j = start + 1; j < start + WINDOW; j++) {
+				if (grams[j] <= grams[minIndex]) {
+					minIndex = j;
+				}
+			}
+			if (minIndex != lastIndex) {
+				selected[count++] = grams[minIndex];
+				lastIndex = minIndex;
+			}
+		}
+		return Arrays.stream(selected, 0, count).distinct().sorted().toArray();
+	}
+
+	static int[] minHash(int[] fingerprints) {
+		int[] signature = new int[SIGNATURE_LENGTH];
+		Arrays.fill(signature, Integer.MAX_VALUE);
+		for (int fingerprint : fingerprints) {
+			for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+				int h = (int) ((MULTIPLIERS[i] * fingerprint + OFFSETS[i]) >>> 33);
+				if (h < signature[i]) {
+					signature[i] = h;
+				}
+			}
+		}
+		return signature;
+	}
+
+	/**
+	 * Estimated Jaccard similarity of the underlying fingerprint sets.
+	 */
+	public static double similarity(int[] a, int[] b) {
+		int equal = 0;
+		for (int i = 0; i < SIGNATURE_LENGTH; i++) {
+			if (a[i] == b[i] && a[i] != Integer.MAX_VALUE) {
+				equal++;
+			}
+		}
+		return (double) equal / SIGNATURE_LENGTH;
+	}
+
+	private static int mix(int h) {
+		h ^= h >>> 16;
+		h *= 0x85EBCA6B;
+		h ^= h >>> 13;
+		h *= 0xC2B2AE35;
+		return h ^ (h >>> 16);
+	}
+}
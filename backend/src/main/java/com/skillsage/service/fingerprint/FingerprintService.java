@@ -0,0 +1,136 @@
+package com.skillsage.service.fingerprint;
+
+import java.sql.Array;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.skillsage.entity.CodeEmbedding;
+import com.skillsage.repository.CodeEmbeddingRepository;
+import com.skillsage.service.vector.EmbeddingTableFollower;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Per-question MinHash LSH indexes over the signatures stored next to each
+ * code embedding. A close structural match only marks a submission as
+ * suspicious and names the stored embedding to check it against; the vector
+ * comparison decides.
+ */
+@Service
+@RequiredArgsConstructor
+public class FingerprintService {
+
+	private final CodeEmbeddingRepository codeEmbeddingRepository;
+
+	@Value("${ai.plagiarism.fingerprint-enabled:true}")
+	private boolean enabled;
+
+	@Value("${ai.plagiarism.fingerprint-min-count:16}")
+	private int minFingerprints;
+
+	@Value("${vector-index.warmup-page-size:1000}")
+	private int warmupPageSize;
+
+	@Value("${vector-index.refresh-interval-ms:5000}")
+	private long refreshIntervalMs;
+
+	@Value("${vector-index.refresh-overlap-ms:60000}")
+	private long refreshOverlapMs;
+
+	@Value("${vector-index.max-staleness-ms:30000}")
+	private long maxStalenessMs;
+
+	private final Map<Long, MinHashLshIndex> indexes = new ConcurrentHashMap<>();
+	private volatile EmbeddingTableFollower follower;
+
+	public boolean isReady() {
+		return enabled && follower != null && follower.isFresh();
+	}
+
+	public int[] signature(String code, String language) {
+		return CodeFingerprinter.minHash(code, language);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!enabled) {
+			return;
+		}
+		follower = new EmbeddingTableFollower("fingerprint-index", codeEmbeddingRepository,
+				new EmbeddingTableFollower.Settings(warmupPageSize, refreshIntervalMs, refreshOverlapMs, maxStalenessMs),
+				codeEmbeddingRepository::findSignaturePageAfter,
+				codeEmbeddingRepository::findSignaturesByIds,
+				(questionId, id) -> {
+					MinHashLshIndex index = indexes.get(questionId);
+					return index != null && index.contains(id);
+				},
+				row -> indexFor(((Number) row[1]).longValue()).add(((Number) row[0]).longValue(),
+						((Number) row[2]).longValue(), toIntArray(row[3])));
+		follower.start();
+	}
+
+	/**
+	 * Indexes a newly saved signature once the surrounding transaction commits.
+	 */
+	public void add(CodeEmbedding embedding) {
+		if (!enabled || embedding.getMinhashSignature() == null) {
+			return;
+		}
+		Runnable insert = () -> indexFor(embedding.getQuestionId()).add(embedding.getId(),
+				embedding.getCandidateId(), embedding.getMinhashSignature());
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					insert.run();
+				}
+			});
+		} else {
+			insert.run();
+		}
+	}
+
+	/**
+	 * Closest structural match among other candidates' submissions, or null when
+	 * there is none or the code has too few fingerprints to compare reliably.
+	 */
+	public MinHashLshIndex.Match bestMatch(Long questionId, Long excludedCandidateId, String code, String language) {
+		int[] fingerprints = CodeFingerprinter.fingerprints(code, language);
+		MinHashLshIndex index = indexes.get(questionId);
+		if (index == null || fingerprints.length < minFingerprints) {
+			return null;
+		}
+		return index.bestMatch(CodeFingerprinter.minHash(fingerprints), excludedCandidateId);
+	}
+
+	private MinHashLshIndex indexFor(Long questionId) {
+		return indexes.computeIfAbsent(questionId, id -> new MinHashLshIndex());
+	}
+
+	private static int[] toIntArray(Object value) {
+		if (value instanceof int[] ints) {
+			return ints;
+		}
+		if (value instanceof Array array) {
+			try {
+				value = array.getArray();
+			} catch (SQLException e) {
+				throw new IllegalStateException(e);
+			}
+		}
+		Object[] boxed = (Object[]) value;
+		int[] ints = new int[boxed.length];
+		for (int i = 0; i < boxed.length; i++) {
+			ints[i] = ((Number) boxed[i]).intValue();
+		}
+		return ints;
+	}
+}
@@ -0,0 +1,75 @@
+package com.skillsage.service.fingerprint;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LSH banding over MinHash signatures for one question: signatures agreeing on
+ * every row of at least one band land in a shared bucket, so near-duplicates
+ * are found without comparing against every stored signature.
+ */
+public class MinHashLshIndex {
+
+	private static final int BANDS = 16;
+	private static final int ROWS = CodeFingerprinter.SIGNATURE_LENGTH / BANDS;
+
+	public record Match(long embeddingId, double similarity) {
+	}
+
+	private record Entry(long embeddingId, long candidateId, int[] signature) {
+	}
+
+	private final Map<Long, List<Entry>> buckets = new HashMap<>();
+	private final Set<Long> present = new HashSet<>();
+
+	public synchronized void add(long embeddingId, long candidateId, int[] signature) {
+		if (!present.add(embeddingId)) {
+			return;
+		}
+		Entry entry = new Entry(embeddingId, candidateId, signature);
+		for (int band = 0; band < BANDS; band++) {
+			buckets.computeIfAbsent(bucketKey(signature, band), k -> new ArrayList<>()).add(entry);
+		}
+	}
+
+	public synchronized boolean contains(long embeddingId) {
+		return present.contains(embeddingId);
+	}
+
+	/**
+	 * Bucket-mate of another candidate with the highest estimated Jaccard
+	 * similarity, or null when no stored signature shares a band.
+	 */
+	public synchronized Match bestMatch(int[] signature, long excludedCandidateId) {
+		Match best = null;
+		Set<Long> seen = new HashSet<>();
+		for (int band = 0; band < BANDS; band++) {
+			List<Entry> bucket = buckets.get(bucketKey(signature, band));
+			if (bucket == null) {
+				continue;
+			}
+			for (Entry entry : bucket) {
+				if (entry.candidateId() == excludedCandidateId || !seen.add(entry.embeddingId())) {
+					continue;
+				}
+				double similarity = CodeFingerprinter.similarity(signature, entry.signature());
+				if (best == null || similarity > best.similarity()) {
+					best = new Match(entry.embeddingId(), similarity);
+				}
+			}
+		}
+		return best;
+	}
+
+	private static long bucketKey(int[] signature, int band) {
+		long h = band;
+		for (int r = band * ROWS; r < (band + 1) * ROWS; r++) {
+			h = h * 1_000_003L + signature[r];
+		}
+		return h;
+	}
+}
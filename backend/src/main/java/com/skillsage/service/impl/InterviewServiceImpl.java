@@ -1,8 +1,10 @@
 package com.skillsage.service.impl;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -10,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.skillsage.dto.request.CreateInterviewRequest;
 import com.skillsage.dto.request.UpdateInterviewRequest;
 import com.skillsage.dto.response.InterviewResponse;
+import com.skillsage.dto.response.PageResponse;
 import com.skillsage.dto.response.QuestionResponse;
 import com.skillsage.dto.response.UserResponse;
 import com.skillsage.entity.Interview;
@@ -23,6 +26,7 @@ import com.skillsage.repository.QuestionRepository;
 import com.skillsage.repository.UserRepository;
 import com.skillsage.service.IEmailService;
 import com.skillsage.service.IInterviewService;
+import com.skillsage.util.Cursors;
 
 import lombok.RequiredArgsConstructor;
 
@@ -69,6 +73,7 @@ public class InterviewServiceImpl implements IInterviewService {
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<InterviewResponse> getInterviews() {
         String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
         User user = userRepository.findByEmail(userEmail)
@@ -80,6 +85,10 @@ public class InterviewServiceImpl implements IInterviewService {
         } else {
             interviews = interviewRepository.findByCandidateId(user.getId());
         }
+        // Users come with the listing query; all question lists are filled in with one more.
+        if (!interviews.isEmpty()) {
+            interviewRepository.fetchQuestions(interviews.stream().map(Interview::getId).toList());
+        }
 
         return interviews.stream()
                 .map(this::mapToResponse)
@@ -87,8 +96,28 @@ public class InterviewServiceImpl implements IInterviewService {
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public PageResponse<InterviewResponse> getInterviewPage(String cursor, Integer size, InterviewStatus status,
+            LocalDateTime from, LocalDateTime to) {
+        String userEmail = SecurityContextHolder.getContext().getAuthentication().getName();
+        User user = userRepository.findByEmail(userEmail)
+                .orElseThrow(() -> new BadRequestException("User not found"));
+
+        boolean recruiter = user.getRole().name().equalsIgnoreCase("RECRUITER");
+        int pageSize = Cursors.pageSize(size);
+        List<Interview> interviews = interviewRepository.findPage(Cursors.decode(cursor),
+                recruiter ? user.getId() : null, recruiter ? null : user.getId(), status, from, to,
+                Limit.of(pageSize + 1));
+        if (!interviews.isEmpty()) {
+            interviewRepository.fetchQuestions(interviews.stream().map(Interview::getId).toList());
+        }
+        return Cursors.page(interviews, pageSize, Interview::getId, this::mapToResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public InterviewResponse getInterviewById(Long id) {
-        Interview interview = interviewRepository.findById(id)
+        Interview interview = interviewRepository.findWithDetailsById(id)
                 .orElseThrow(() -> new InterviewNotFoundException("Interview not found"));
         return mapToResponse(interview);
     }
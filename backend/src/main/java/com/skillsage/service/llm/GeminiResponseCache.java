@@ -0,0 +1,135 @@
+package com.skillsage.service.llm;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import com.skillsage.util.Hashing;
+import com.skillsage.util.LruCache;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Prompt-level cache for LLM responses: a bounded in-heap LRU in front of
+ * Redis, keyed by model plus the SHA-256 of the prompt. Concurrent misses for
+ * the same key share a single in-flight call, and only successful responses
+ * are stored.
+ */
+@Component
+@RequiredArgsConstructor
+public class GeminiResponseCache {
+
+	private final StringRedisTemplate redisTemplate;
+
+	@Value("${gemini.cache.enabled:true}")
+	private boolean enabled;
+
+	@Value("${gemini.cache.heap-entries:2000}")
+	private int heapEntries;
+
+	@Value("${gemini.cache.redis-enabled:true}")
+	private boolean redisEnabled;
+
+	@Value("${gemini.cache.redis-ttl-hours:24}")
+	private long redisTtlHours;
+
+	private LruCache<String, String> heap;
+	private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	public void init() {
+		heap = new LruCache<>(heapEntries);
+	}
+
+	public String key(String model, String prompt) {
+		return "llm:" + model + ":" + Hashing.sha256Hex(prompt);
+	}
+
+	/**
+	 * Returns the cached response for {@code key}, joins an identical call that
+	 * is already running, or starts {@code loader} and caches its result.
+	 */
+	public CompletableFuture<String> getOrLoad(String key, Supplier<CompletableFuture<String>> loader) {
+		return getOrLoad(key, loader, response -> true);
+	}
+
+	/**
+	 * Like {@link #getOrLoad(String, Supplier)}, but a loaded response is only
+	 * stored when {@code cacheable} accepts it; callers sharing the call still
+	 * receive it either way.
+	 */
+	public CompletableFuture<String> getOrLoad(String key, Supplier<CompletableFuture<String>> loader,
+			Predicate<String> cacheable) {
+		if (!enabled) {
+			return loader.get();
+		}
+		String cached = get(key);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+		CompletableFuture<String> created = new CompletableFuture<>();
+		CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			return existing;
+		}
+		try {
+			loader.get().whenComplete((response, error) -> {
+				inFlight.remove(key, created);
+				if (error != null) {
+					created.completeExceptionally(error);
+				} else {
+					if (cacheable.test(response)) {
+						put(key, response);
+					}
+					created.complete(response);
+				}
+			});
+		} catch (RuntimeException e) {
+			inFlight.remove(key, created);
+			created.completeExceptionally(e);
+		}
+		return created;
+	}
+
+	public String get(String key) {
+		if (!enabled) {
+			return null;
+		}
+		String cached = heap.get(key);
+		if (cached != null || !redisEnabled) {
+			return cached;
+		}
+		try {
+			cached = redisTemplate.opsForValue().get(key);
+			if (cached != null) {
+				heap.put(key, cached);
+			}
+		} catch (RuntimeException e) {
+			// Redis unavailable: treat as a miss
+		}
+		return cached;
+	}
+
+	public void put(String key, String response) {
+		if (!enabled) {
+			return;
+		}
+		heap.put(key, response);
+		if (!redisEnabled) {
+			return;
+		}
+		try {
+			redisTemplate.opsForValue().set(key, response, Duration.ofHours(redisTtlHours));
+		} catch (RuntimeException e) {
+			// Best effort only
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package com.skillsage.service.llm;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+/**
+ * Pulls the first balanced JSON object out of LLM output that may be wrapped
+ * in markdown fences or surrounded by prose. Text is fed incrementally into
+ * Jackson's non-blocking parser starting at the first {@code '{'}; tokens are
+ * recorded into a {@link TokenBuffer} and bound to the target type as soon as
+ * the object closes, without regex passes or re-reading the whole response. A
+ * {@code '{'} that turns out not to start valid JSON is skipped and scanning
+ * resumes after it; a complete object that does not bind to the target type
+ * is skipped as a whole, so none of its nested objects is mistaken for the
+ * answer.
+ *
+ * Instances are single-use and not thread-safe.
+ */
+public class JsonExtractor<T> {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper()
+			.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+	private final JavaType type;
+	private final StringBuilder pending = new StringBuilder();
+	private JsonParser parser;
+	private TokenBuffer tokens;
+	private int candidateStart = -1;
+	private int fedUpTo;
+	private int depth;
+	private long completedBytes;
+	private T result;
+
+	public JsonExtractor(Class<T> type) {
+		this.type = MAPPER.constructType(type);
+	}
+
+	public static <T> T extract(String text, Class<T> type) {
+		if (text == null) {
+			return null;
+		}
+		JsonExtractor<T> extractor = new JsonExtractor<>(type);
+		extractor.feed(text);
+		return extractor.result();
+	}
+
+	/**
+	 * Feeds the next chunk of model output. Returns true once an object has
+	 * been extracted; later chunks are ignored.
+	 */
+	public boolean feed(CharSequence chunk) {
+		if (result != null) {
+			return true;
+		}
+		pending.append(chunk);
+		while (result == null) {
+			if (parser == null && !startCandidate()) {
+				return false;
+			}
+			try {
+				if (!advance()) {
+					return false;
+				}
+			} catch (JsonMappingException e) {
+				// Well-formed, wrong shape: resume after the whole object
+				skipPast(completedBytes);
+			} catch (IOException e) {
+				// Not JSON after all: retry from the next brace
+				restartAfter(candidateStart);
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * The bound object, or null when no complete JSON object has been seen.
+	 */
+	public T result() {
+		return result;
+	}
+
+	private boolean startCandidate() {
+		int brace = pending.indexOf("{", Math.max(candidateStart + 1, 0));
+		if (brace < 0) {
+			// Nothing left worth keeping
+			candidateStart = -1;
+			pending.setLength(0);
+			return false;
+		}
+		try {
+			parser = MAPPER.getFactory().createNonBlockingByteArrayParser();
+		} catch (IOException e) {
+			throw new IllegalStateException(e);
+		}
+		tokens = new TokenBuffer(parser);
+		candidateStart = brace;
+		fedUpTo = brace;
+		depth = 0;
+		return true;
+	}
+
+	private boolean advance() throws IOException {
+		if (fedUpTo < pending.length()) {
+			byte[] bytes = pending.substring(fedUpTo).getBytes(StandardCharsets.UTF_8);
+			((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+			fedUpTo = pending.length();
+		}
+		JsonToken token;
+		while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+			tokens.copyCurrentEvent(parser);
+			if (token.isStructStart()) {
+				depth++;
+			} else if (token.isStructEnd() && --depth == 0) {
+				completedBytes = parser.currentLocation().getByteOffset();
+				parser.close();
+				try (JsonParser buffered = tokens.asParser(MAPPER)) {
+					result = MAPPER.readValue(buffered, type);
+				}
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private void skipPast(long bytes) {
+		byte[] candidate = pending.substring(candidateStart).getBytes(StandardCharsets.UTF_8);
+		int chars = new String(candidate, 0, (int) Math.min(bytes, candidate.length), StandardCharsets.UTF_8).length();
+		parser = null;
+		pending.delete(0, candidateStart + chars);
+		candidateStart = -1;
+	}
+
+	private void restartAfter(int start) {
+		try {
+			parser.close();
+		} catch (IOException ignored) {
+			// nothing to release
+		}
+		parser = null;
+		pending.delete(0, start);
+		candidateStart = 0;
+	}
+}
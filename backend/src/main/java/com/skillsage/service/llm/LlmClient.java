@@ -0,0 +1,132 @@
+package com.skillsage.service.llm;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.skillsage.config.GeminiService;
+import com.skillsage.exception.GeminiException;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Entry point for prompt-driven Gemini calls from the service layer. Repeated
+ * prompts are answered from {@link GeminiResponseCache}; everything that does
+ * reach the provider goes through the {@link LlmRequestScheduler}.
+ */
+@Service
+@RequiredArgsConstructor
+public class LlmClient {
+
+	private final GeminiService geminiService;
+	private final GeminiResponseCache responseCache;
+	private final LlmRequestScheduler scheduler;
+
+	@Value("${gemini.response-schema.enabled:true}")
+	private boolean responseSchemaEnabled;
+
+	public CompletableFuture<String> generateAsync(String prompt, LlmPriority priority) {
+		return responseCache.getOrLoad(responseCache.key(geminiService.getModel(), prompt),
+				() -> generateUncachedAsync(prompt, priority));
+	}
+
+	public CompletableFuture<String> generateUncachedAsync(String prompt, LlmPriority priority) {
+		return scheduler.submit(priority, () -> geminiService.generateResponseAsync(prompt));
+	}
+
+	/**
+	 * Streaming variant of {@link #generateJson(String, LlmPriority, Class)}:
+	 * the same request and cache entry, with the raw reply handed to
+	 * {@code onText} as Gemini produces it. A cached reply is delivered as a
+	 * single chunk.
+	 *
+	 * @return the bound object, or null when the reply contains no usable JSON
+	 */
+	public <T> CompletableFuture<T> streamJson(String prompt, LlmPriority priority, Class<T> type,
+			Consumer<String> onText) {
+		Map<String, Object> schema = this.schemaFor(type);
+		String key = this.jsonKey(prompt, schema, type);
+		String cached = responseCache.get(key);
+		if (cached != null) {
+			onText.accept(cached);
+			return CompletableFuture.completedFuture(JsonExtractor.extract(cached, type));
+		}
+		JsonExtractor<T> extractor = new JsonExtractor<>(type);
+		return scheduler.submit(priority, () -> geminiService.streamResponseAsync(prompt, schema, chunk -> {
+			extractor.feed(chunk);
+			onText.accept(chunk);
+		})).thenApply(text -> {
+			T result = extractor.result() != null ? extractor.result() : JsonExtractor.extract(text, type);
+			if (result != null) {
+				responseCache.put(key, text);
+			}
+			return result;
+		});
+	}
+
+	/**
+	 * Blocking, cached call.
+	 *
+	 * @throws GeminiException when the provider cannot produce a response
+	 */
+	public String generate(String prompt, LlmPriority priority) {
+		return join(generateAsync(prompt, priority));
+	}
+
+	/**
+	 * Blocking call that always reaches the provider, for prompts whose output
+	 * is expected to differ between calls.
+	 */
+	public String generateUncached(String prompt, LlmPriority priority) {
+		return join(generateUncachedAsync(prompt, priority));
+	}
+
+	/**
+	 * Cached call for a structured answer: the request carries a
+	 * {@code responseSchema} derived from {@code type} and the first JSON
+	 * object in the reply is bound to it. Replies without a usable object are
+	 * not cached, so the next call asks again.
+	 *
+	 * @return the bound object, or null when the reply contains no usable JSON
+	 */
+	public <T> T generateJson(String prompt, LlmPriority priority, Class<T> type) {
+		Map<String, Object> schema = this.schemaFor(type);
+		String key = this.jsonKey(prompt, schema, type);
+		return JsonExtractor.extract(join(responseCache.getOrLoad(key,
+				() -> scheduler.submit(priority, () -> geminiService.generateResponseAsync(prompt, schema)),
+				response -> JsonExtractor.extract(response, type) != null)), type);
+	}
+
+	/**
+	 * Uncached variant of {@link #generateJson(String, LlmPriority, Class)}.
+	 */
+	public <T> T generateJsonUncached(String prompt, LlmPriority priority, Class<T> type) {
+		Map<String, Object> schema = this.schemaFor(type);
+		return JsonExtractor.extract(
+				join(scheduler.submit(priority, () -> geminiService.generateResponseAsync(prompt, schema))), type);
+	}
+
+	private String jsonKey(String prompt, Map<String, Object> schema, Class<?> type) {
+		return responseCache.key(geminiService.getModel(),
+				schema == null ? prompt : prompt + "\n#schema:" + type.getName());
+	}
+
+	private Map<String, Object> schemaFor(Class<?> type) {
+		return responseSchemaEnabled ? ResponseSchemas.of(type) : null;
+	}
+
+	private static String join(CompletableFuture<String> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof GeminiException gemini) {
+				throw gemini;
+			}
+			throw new GeminiException("Gemini request failed: " + e.getCause().getMessage(), e.getCause());
+		}
+	}
+}
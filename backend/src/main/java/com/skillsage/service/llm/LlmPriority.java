@@ -0,0 +1,9 @@
+package com.skillsage.service.llm;
+
+/**
+ * Scheduling class of an LLM call. Interactive requests are dispatched ahead
+ * of background work whenever both are waiting for rate-limit tokens.
+ */
+public enum LlmPriority {
+	INTERACTIVE, BACKGROUND
+}
@@ -0,0 +1,261 @@
+package com.skillsage.service.llm;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.skillsage.exception.GeminiException;
+import com.skillsage.service.resilience.CircuitBreaker;
+import com.skillsage.service.resilience.CircuitBreakerRegistry;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Client-side admission control for the LLM provider. Calls wait in a
+ * priority queue and are released by a single dispatcher at the rate allowed
+ * by a token bucket sized to the provider quota. A request still queued after
+ * {@code gemini.scheduler.max-wait-ms} is taken out of the queue and failed by
+ * a timer armed when it was submitted, and 429/5xx/transport failures are retried with full-jitter exponential
+ * backoff before surfacing as a {@link GeminiException}.
+ *
+ * Calls in flight are capped by a bulkhead and a time limit, and a circuit
+ * breaker fails requests fast while the provider keeps erroring, probing it
+ * again after the open period.
+ */
+@Component
+@RequiredArgsConstructor
+public class LlmRequestScheduler {
+
+	private final CircuitBreakerRegistry circuitBreakerRegistry;
+
+	@Value("${gemini.rate-limit.requests-per-minute:60}")
+	private double requestsPerMinute;
+
+	@Value("${gemini.rate-limit.burst:10}")
+	private int burst;
+
+	@Value("${gemini.scheduler.queue-capacity:500}")
+	private int queueCapacity;
+
+	@Value("${gemini.scheduler.max-wait-ms:30000}")
+	private long maxWaitMs;
+
+	@Value("${gemini.retry.max-attempts:3}")
+	private int maxAttempts;
+
+	@Value("${gemini.retry.base-delay-ms:500}")
+	private long baseDelayMs;
+
+	@Value("${gemini.retry.max-delay-ms:8000}")
+	private long maxDelayMs;
+
+	@Value("${resilience.gemini.max-concurrent:8}")
+	private int maxConcurrent;
+
+	@Value("${resilience.gemini.timeout-ms:120000}")
+	private long timeoutMs;
+
+	private final PriorityBlockingQueue<PendingCall> queue = new PriorityBlockingQueue<>();
+	private final AtomicLong sequence = new AtomicLong();
+	private final AtomicInteger waiting = new AtomicInteger();
+	private CircuitBreaker breaker;
+	private Semaphore inFlight;
+	private ScheduledExecutorService timer;
+	private Thread dispatcher;
+	private volatile boolean running = true;
+
+	private double tokens;
+	private long lastRefill;
+	private double tokensPerNano;
+
+	private final class PendingCall implements Comparable<PendingCall> {
+		final LlmPriority priority;
+		final long seq = sequence.incrementAndGet();
+		final AtomicBoolean admitted = new AtomicBoolean();
+		final Supplier<CompletableFuture<String>> call;
+		final CompletableFuture<String> result = new CompletableFuture<>();
+		int attempt;
+		ScheduledFuture<?> expiry;
+
+		PendingCall(LlmPriority priority, Supplier<CompletableFuture<String>> call) {
+			this.priority = priority;
+			this.call = call;
+		}
+
+		@Override
+		public int compareTo(PendingCall other) {
+			int byPriority = priority.compareTo(other.priority);
+			return byPriority != 0 ? byPriority : Long.compare(seq, other.seq);
+		}
+	}
+
+	@PostConstruct
+	public void start() {
+		tokensPerNano = requestsPerMinute / TimeUnit.MINUTES.toNanos(1);
+		tokens = burst;
+		lastRefill = System.nanoTime();
+		breaker = circuitBreakerRegistry.get("gemini");
+		inFlight = new Semaphore(maxConcurrent);
+		// Runs both the queue-wait expiries and the retry backoffs
+		timer = Executors.newSingleThreadScheduledExecutor(r -> {
+			Thread t = new Thread(r, "llm-timer");
+			t.setDaemon(true);
+			return t;
+		});
+		dispatcher = new Thread(this::dispatch, "llm-dispatcher");
+		dispatcher.setDaemon(true);
+		dispatcher.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		dispatcher.interrupt();
+		timer.shutdownNow();
+	}
+
+	public CompletableFuture<String> submit(LlmPriority priority, Supplier<CompletableFuture<String>> call) {
+		if (waiting.incrementAndGet() > queueCapacity) {
+			waiting.decrementAndGet();
+			return CompletableFuture.failedFuture(new GeminiException(429, "LLM request queue is full"));
+		}
+		PendingCall pending = new PendingCall(priority, call);
+		pending.expiry = timer.schedule(() -> this.expire(pending), maxWaitMs, TimeUnit.MILLISECONDS);
+		queue.add(pending);
+		return pending.result;
+	}
+
+	/**
+	 * Fails a call that has not been admitted once its wait budget is spent and
+	 * takes it out of the queue. If the dispatcher is holding it at that moment,
+	 * the dispatcher drops it instead; retries were admitted and are left alone.
+	 */
+	private void expire(PendingCall pending) {
+		if (!pending.admitted.compareAndSet(false, true)) {
+			return;
+		}
+		pending.result.completeExceptionally(new GeminiException(429, "Timed out waiting for LLM rate-limit capacity"));
+		if (queue.remove(pending)) {
+			waiting.decrementAndGet();
+		}
+	}
+
+	private void dispatch() {
+		while (running) {
+			try {
+				PendingCall next = queue.take();
+				long wait;
+				while ((wait = nanosUntilToken()) > 0) {
+					// Put it back so a higher-priority arrival can overtake while we wait
+					queue.add(next);
+					LockSupport.parkNanos(wait);
+					if (Thread.interrupted()) {
+						throw new InterruptedException();
+					}
+					next = queue.take();
+				}
+				if (next.attempt == 0) {
+					waiting.decrementAndGet();
+				}
+				// Bulkhead: wait for an in-flight slot before releasing the call
+				inFlight.acquire();
+				if (!next.admitted.compareAndSet(false, true) && next.attempt == 0) {
+					// Its wait budget ran out while the dispatcher was holding it
+					inFlight.release();
+					continue;
+				}
+				next.expiry.cancel(false);
+				tokens -= 1;
+				execute(next);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+	}
+
+	private void execute(PendingCall pending) {
+		CircuitBreaker.Permit permit = breaker.tryAcquire();
+		if (permit == null) {
+			inFlight.release();
+			pending.result.completeExceptionally(new GeminiException(503, "Gemini is unavailable (circuit open)"));
+			return;
+		}
+		CompletableFuture<String> call;
+		try {
+			call = pending.call.get().orTimeout(timeoutMs, TimeUnit.MILLISECONDS);
+		} catch (RuntimeException e) {
+			call = CompletableFuture.failedFuture(e);
+		}
+		call.whenComplete((response, error) -> {
+			inFlight.release();
+			if (error == null) {
+				breaker.onSuccess(permit);
+				pending.result.complete(response);
+				return;
+			}
+			Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause()
+					: error;
+			if (isProviderFailure(cause)) {
+				breaker.onFailure(permit);
+			} else {
+				breaker.onSuccess(permit);
+			}
+			if (++pending.attempt < maxAttempts && isRetryable(cause) && running) {
+				timer.schedule(() -> queue.add(pending), backoffMs(pending.attempt), TimeUnit.MILLISECONDS);
+			} else {
+				pending.result.completeExceptionally(cause instanceof GeminiException ? cause
+						: new GeminiException("Gemini request failed: " + cause.getMessage(), cause));
+			}
+		});
+	}
+
+	private long nanosUntilToken() {
+		long now = System.nanoTime();
+		tokens = Math.min(burst, tokens + (now - lastRefill) * tokensPerNano);
+		lastRefill = now;
+		return tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / tokensPerNano);
+	}
+
+	private long backoffMs(int attempt) {
+		long cap = Math.min(maxDelayMs, baseDelayMs << Math.min(attempt - 1, 20));
+		return ThreadLocalRandom.current().nextLong(cap + 1);
+	}
+
+	private static boolean isRetryable(Throwable cause) {
+		if (cause instanceof GeminiException gemini) {
+			int status = gemini.getStatusCode();
+			return status == 429 || status >= 500 || status == -1 && gemini.getCause() instanceof IOException;
+		}
+		return cause instanceof IOException || cause instanceof TimeoutException;
+	}
+
+	/**
+	 * Failures that say the provider is unhealthy, as opposed to a bad request.
+	 */
+	private static boolean isProviderFailure(Throwable cause) {
+		if (cause instanceof GeminiException gemini) {
+			int status = gemini.getStatusCode();
+			return status == 429 || status >= 500 || status == 200 || status == -1;
+		}
+		return true;
+	}
+}
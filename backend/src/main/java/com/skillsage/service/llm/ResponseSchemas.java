@@ -0,0 +1,55 @@
+package com.skillsage.service.llm;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Derives Gemini {@code responseSchema} objects (the OpenAPI subset accepted
+ * by generationConfig) from DTO classes, so structured prompts are decoded
+ * under a schema instead of relying on the model to follow a JSON example.
+ */
+public final class ResponseSchemas {
+
+	private static final Map<Class<?>, Map<String, Object>> CACHE = new ConcurrentHashMap<>();
+
+	private ResponseSchemas() {
+	}
+
+	public static Map<String, Object> of(Class<?> type) {
+		return CACHE.computeIfAbsent(type, t -> schema(t));
+	}
+
+	private static Map<String, Object> schema(Type type) {
+		if (type instanceof ParameterizedType parameterized
+				&& Collection.class.isAssignableFrom((Class<?>) parameterized.getRawType())) {
+			return Map.of("type", "ARRAY", "items", schema(parameterized.getActualTypeArguments()[0]));
+		}
+		Class<?> raw = (Class<?>) type;
+		if (raw == String.class || raw.isEnum()) {
+			return Map.of("type", "STRING");
+		}
+		if (raw == boolean.class || raw == Boolean.class) {
+			return Map.of("type", "BOOLEAN");
+		}
+		if (raw == int.class || raw == Integer.class || raw == long.class || raw == Long.class) {
+			return Map.of("type", "INTEGER");
+		}
+		if (raw.isPrimitive() || Number.class.isAssignableFrom(raw)) {
+			return Map.of("type", "NUMBER");
+		}
+		Map<String, Object> properties = new LinkedHashMap<>();
+		for (Field field : raw.getDeclaredFields()) {
+			if (!Modifier.isStatic(field.getModifiers())) {
+				properties.put(field.getName(), schema(field.getGenericType()));
+			}
+		}
+		return Map.of("type", "OBJECT", "properties", properties, "propertyOrdering",
+				properties.keySet().stream().toList());
+	}
+}
@@ -0,0 +1,25 @@
+package com.skillsage.service.outbox;
+
+import java.util.List;
+
+import com.skillsage.entity.OutboxEvent;
+import com.skillsage.entity.enums.OutboxEventType;
+
+/**
+ * Processes claimed outbox events of one type. Handlers must be idempotent:
+ * an event is retried when its batch throws or its lease expires.
+ */
+public interface OutboxHandler {
+
+	OutboxEventType type();
+
+	/**
+	 * Handles one batch. If it throws, the worker retries each event of the
+	 * batch on its own and reschedules only the ones that fail again.
+	 */
+	void handle(List<OutboxEvent> events);
+
+	default int batchSize() {
+		return 1;
+	}
+}
@@ -0,0 +1,89 @@
+package com.skillsage.service.outbox;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.skillsage.entity.OutboxEvent;
+import com.skillsage.entity.enums.OutboxEventType;
+import com.skillsage.entity.enums.OutboxStatus;
+import com.skillsage.repository.OutboxEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+public class OutboxService {
+
+	private final OutboxEventRepository outboxEventRepository;
+
+	@Value("${outbox.lease-seconds:300}")
+	private long leaseSeconds;
+
+	@Value("${outbox.max-attempts:5}")
+	private int maxAttempts;
+
+	@Value("${outbox.retry-base-seconds:10}")
+	private long retryBaseSeconds;
+
+	/**
+	 * Records follow-up work in the caller's transaction, so it is only
+	 * visible to the worker once the triggering change commits.
+	 */
+	@Transactional
+	public OutboxEvent enqueue(OutboxEventType type, Long aggregateId, String payload) {
+		LocalDateTime now = LocalDateTime.now();
+		OutboxEvent event = new OutboxEvent();
+		event.setType(type);
+		event.setAggregateId(aggregateId);
+		event.setPayload(payload);
+		event.setStatus(OutboxStatus.PENDING);
+		event.setAvailableAt(now);
+		event.setCreatedAt(now);
+		return outboxEventRepository.save(event);
+	}
+
+	/**
+	 * Claims up to {@code limit} due events for this worker by leasing them for
+	 * {@code outbox.lease-seconds}.
+	 */
+	@Transactional
+	public List<OutboxEvent> claim(int limit) {
+		LocalDateTime now = LocalDateTime.now();
+		List<OutboxEvent> events = outboxEventRepository.lockClaimable(now, limit);
+		for (OutboxEvent event : events) {
+			event.setStatus(OutboxStatus.PROCESSING);
+			event.setAttempts(event.getAttempts() + 1);
+			event.setAvailableAt(now.plusSeconds(leaseSeconds));
+		}
+		return outboxEventRepository.saveAll(events);
+	}
+
+	@Transactional
+	public void complete(List<OutboxEvent> events) {
+		outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+	}
+
+	/**
+	 * Reschedules the events with exponential backoff, or parks them as FAILED
+	 * once {@code outbox.max-attempts} is reached.
+	 */
+	@Transactional
+	public void fail(List<OutboxEvent> events, Exception error) {
+		LocalDateTime now = LocalDateTime.now();
+		String message = String.valueOf(error.getMessage());
+		for (OutboxEvent event : events) {
+			event.setLastError(message);
+			if (event.getAttempts() >= maxAttempts) {
+				event.setStatus(OutboxStatus.FAILED);
+			} else {
+				event.setStatus(OutboxStatus.PENDING);
+				event.setAvailableAt(now.plusSeconds(retryBaseSeconds << Math.min(event.getAttempts() - 1, 16)));
+			}
+		}
+		outboxEventRepository.saveAll(events);
+	}
+}
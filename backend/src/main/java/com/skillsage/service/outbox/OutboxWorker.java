@@ -0,0 +1,111 @@
+package com.skillsage.service.outbox;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.skillsage.entity.OutboxEvent;
+import com.skillsage.entity.enums.OutboxEventType;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Polls the outbox table and runs the claimed events on a fixed worker pool,
+ * grouped into batches per {@link OutboxHandler}. Several application
+ * instances can poll concurrently; row locks with SKIP LOCKED keep their
+ * claims disjoint.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWorker {
+
+	private final OutboxService outboxService;
+	private final List<OutboxHandler> handlers;
+
+	@Value("${outbox.workers:4}")
+	private int workers;
+
+	@Value("${outbox.claim-size:20}")
+	private int claimSize;
+
+	private final Map<OutboxEventType, OutboxHandler> handlerByType = new EnumMap<>(OutboxEventType.class);
+	private ExecutorService pool;
+
+	@PostConstruct
+	public void start() {
+		for (OutboxHandler handler : handlers) {
+			handlerByType.put(handler.type(), handler);
+		}
+		pool = Executors.newFixedThreadPool(workers, r -> {
+			Thread t = new Thread(r, "outbox-worker");
+			t.setDaemon(true);
+			return t;
+		});
+	}
+
+	@PreDestroy
+	public void stop() {
+		pool.shutdownNow();
+	}
+
+	@Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+	public void poll() throws InterruptedException {
+		List<OutboxEvent> claimed;
+		while (!(claimed = outboxService.claim(claimSize)).isEmpty()) {
+			pool.invokeAll(batches(claimed));
+			if (claimed.size() < claimSize) {
+				return;
+			}
+		}
+	}
+
+	private List<Callable<Void>> batches(List<OutboxEvent> claimed) {
+		Map<OutboxEventType, List<OutboxEvent>> byType = new LinkedHashMap<>();
+		for (OutboxEvent event : claimed) {
+			byType.computeIfAbsent(event.getType(), t -> new ArrayList<>()).add(event);
+		}
+		List<Callable<Void>> tasks = new ArrayList<>();
+		byType.forEach((type, events) -> {
+			OutboxHandler handler = handlerByType.get(type);
+			int size = handler == null ? events.size() : Math.max(1, handler.batchSize());
+			for (int i = 0; i < events.size(); i += size) {
+				List<OutboxEvent> batch = events.subList(i, Math.min(events.size(), i + size));
+				tasks.add(() -> {
+					run(handler, batch);
+					return null;
+				});
+			}
+		});
+		return tasks;
+	}
+
+	private void run(OutboxHandler handler, List<OutboxEvent> batch) {
+		try {
+			if (handler == null) {
+				throw new IllegalStateException("No outbox handler for " + batch.get(0).getType());
+			}
+			handler.handle(batch);
+			outboxService.complete(batch);
+		} catch (Exception e) {
+			if (handler == null || batch.size() == 1) {
+				outboxService.fail(batch, e);
+				return;
+			}
+			// Find the culprit: rerun each event alone so the rest still complete
+			for (OutboxEvent event : batch) {
+				this.run(handler, List.of(event));
+			}
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.skillsage.service.resilience;
+
+/**
+ * Count-based circuit breaker. Outcomes of the last {@code windowSize} calls
+ * are kept in a ring; once at least {@code minimumCalls} are recorded and the
+ * failure rate reaches the threshold the breaker opens and rejects calls for
+ * {@code openMillis}. It then half-opens and lets {@code halfOpenProbes}
+ * calls through: if they all succeed it closes, any failure re-opens it.
+ *
+ * Every state change starts a new generation, and a permit remembers the
+ * generation it was issued in. Outcomes reported against an older generation
+ * are ignored, so a slow call that started before the breaker opened cannot
+ * count as a half-open probe or re-open a breaker that has since closed.
+ */
+public class CircuitBreaker {
+
+	public enum State {
+		CLOSED, OPEN, HALF_OPEN
+	}
+
+	public record Permit(long generation) {
+	}
+
+	private final String name;
+	private final boolean[] outcomes;
+	private final int minimumCalls;
+	private final double failureRateThreshold;
+	private final long openMillis;
+	private final int halfOpenProbes;
+
+	private State state = State.CLOSED;
+	private long generation;
+	private int recorded;
+	private int next;
+	private int failures;
+	private long openedAt;
+	private int probesIssued;
+	private int probesSucceeded;
+
+	public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+			long openMillis, int halfOpenProbes) {
+		this.name = name;
+		this.outcomes = new boolean[windowSize];
+		this.minimumCalls = Math.min(minimumCalls, windowSize);
+		this.failureRateThreshold = failureRateThreshold;
+		this.openMillis = openMillis;
+		this.halfOpenProbes = halfOpenProbes;
+	}
+
+	public String getName() {
+		return name;
+	}
+
+	public synchronized State getState() {
+		if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMillis) {
+			return State.HALF_OPEN;
+		}
+		return state;
+	}
+
+	/**
+	 * True while calls are being rejected outright, without claiming a
+	 * half-open probe.
+	 */
+	public boolean isOpen() {
+		return getState() == State.OPEN;
+	}
+
+	/**
+	 * Asks to make a call. Returns null when the call is rejected; otherwise
+	 * the permit must be handed back through {@link #onSuccess(Permit)} or
+	 * {@link #onFailure(Permit)}.
+	 */
+	public synchronized Permit tryAcquire() {
+		if (state == State.OPEN) {
+			if (System.currentTimeMillis() - openedAt < openMillis) {
+				return null;
+			}
+			state = State.HALF_OPEN;
+			generation++;
+			probesIssued = 0;
+			probesSucceeded = 0;
+		}
+		if (state == State.HALF_OPEN) {
+			if (probesIssued >= halfOpenProbes) {
+				return null;
+			}
+			probesIssued++;
+		}
+		return new Permit(generation);
+	}
+
+	public synchronized void onSuccess(Permit permit) {
+		if (permit.generation() != generation) {
+			return;
+		}
+		if (state == State.HALF_OPEN) {
+			if (++probesSucceeded >= halfOpenProbes) {
+				close();
+			}
+			return;
+		}
+		record(false);
+	}
+
+	public synchronized void onFailure(Permit permit) {
+		if (permit.generation() != generation) {
+			return;
+		}
+		if (state == State.HALF_OPEN) {
+			open();
+			return;
+		}
+		record(true);
+	}
+
+	private void record(boolean failure) {
+		if (recorded == outcomes.length) {
+			if (outcomes[next]) {
+				failures--;
+			}
+		} else {
+			recorded++;
+		}
+		outcomes[next] = failure;
+		if (failure) {
+			failures++;
+		}
+		next = (next + 1) % outcomes.length;
+		if (recorded >= minimumCalls && failures * 100.0 / recorded >= failureRateThreshold) {
+			open();
+		}
+	}
+
+	private void open() {
+		state = State.OPEN;
+		generation++;
+		openedAt = System.currentTimeMillis();
+	}
+
+	private void close() {
+		state = State.CLOSED;
+		generation++;
+		recorded = 0;
+		next = 0;
+		failures = 0;
+	}
+}
@@ -0,0 +1,35 @@
+package com.skillsage.service.resilience;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * One {@link CircuitBreaker} per external dependency, configured from
+ * {@code resilience.<name>.*} properties.
+ */
+@Component
+@RequiredArgsConstructor
+public class CircuitBreakerRegistry {
+
+	private final Environment environment;
+	private final Map<String, CircuitBreaker> breakers = new ConcurrentHashMap<>();
+
+	public CircuitBreaker get(String name) {
+		return breakers.computeIfAbsent(name, this::create);
+	}
+
+	private CircuitBreaker create(String name) {
+		String prefix = "resilience." + name + ".";
+		return new CircuitBreaker(name,
+				environment.getProperty(prefix + "sliding-window", Integer.class, 20),
+				environment.getProperty(prefix + "minimum-calls", Integer.class, 10),
+				environment.getProperty(prefix + "failure-rate-threshold", Double.class, 50.0),
+				environment.getProperty(prefix + "open-ms", Long.class, 30_000L),
+				environment.getProperty(prefix + "half-open-probes", Integer.class, 2));
+	}
+}
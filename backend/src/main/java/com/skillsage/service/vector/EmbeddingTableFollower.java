@@ -0,0 +1,150 @@
+package com.skillsage.service.vector;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.skillsage.repository.CodeEmbeddingRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps an in-memory index in step with {@code code_embeddings}, including
+ * rows written by other instances: one full keyset scan, then a periodic
+ * catch-up over rows whose {@code submitted_at} is at most {@code overlapMs}
+ * older than the newest row seen. The overlap covers transactions that
+ * committed late; rows already indexed are skipped before their payload is
+ * loaded. Failures are logged and retried on the next tick, and
+ * {@link #isFresh()} turns false once the last successful sync is older than
+ * {@code maxStalenessMs}, so callers fall back to SQL.
+ * <p>
+ * Rows handed to {@code add} carry the id first and {@code submitted_at} last.
+ */
+@Slf4j
+public class EmbeddingTableFollower {
+
+	@FunctionalInterface
+	public interface PageLoader {
+		List<Object[]> pageAfter(long cursor, int limit);
+	}
+
+	@FunctionalInterface
+	public interface Known {
+		boolean contains(long questionId, long embeddingId);
+	}
+
+	public record Settings(int pageSize, long intervalMs, long overlapMs, long maxStalenessMs) {
+	}
+
+	private final String name;
+	private final CodeEmbeddingRepository repository;
+	private final Settings settings;
+	private final PageLoader fullScan;
+	private final Function<List<Long>, List<Object[]>> loadByIds;
+	private final Known known;
+	private final Consumer<Object[]> add;
+
+	private LocalDateTime newest;
+	private volatile boolean warm;
+	private volatile long lastSyncMillis;
+
+	public EmbeddingTableFollower(String name, CodeEmbeddingRepository repository, Settings settings,
+			PageLoader fullScan, Function<List<Long>, List<Object[]>> loadByIds, Known known, Consumer<Object[]> add) {
+		this.name = name;
+		this.repository = repository;
+		this.settings = settings;
+		this.fullScan = fullScan;
+		this.loadByIds = loadByIds;
+		this.known = known;
+		this.add = add;
+	}
+
+	public boolean isFresh() {
+		return warm && System.currentTimeMillis() - lastSyncMillis < settings.maxStalenessMs();
+	}
+
+	public void start() {
+		Thread thread = new Thread(this::run, name + "-sync");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	private void run() {
+		while (!Thread.currentThread().isInterrupted()) {
+			try {
+				if (warm) {
+					catchUp();
+				} else {
+					warmUp();
+					warm = true;
+				}
+				lastSyncMillis = System.currentTimeMillis();
+			} catch (RuntimeException e) {
+				log.warn("{} sync failed, lookups fall back to SQL until it recovers", name, e);
+			}
+			try {
+				Thread.sleep(settings.intervalMs());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	private void warmUp() {
+		long cursor = 0;
+		while (true) {
+			List<Object[]> rows = fullScan.pageAfter(cursor, settings.pageSize());
+			if (rows.isEmpty()) {
+				return;
+			}
+			for (Object[] row : rows) {
+				add.accept(row);
+				track(row[row.length - 1]);
+				cursor = ((Number) row[0]).longValue();
+			}
+		}
+	}
+
+	private void catchUp() {
+		LocalDateTime afterTime = newest == null ? LocalDateTime.of(1970, 1, 1, 0, 0)
+				: newest.minusNanos(settings.overlapMs() * 1_000_000);
+		long afterId = Long.MIN_VALUE;
+		while (true) {
+			List<Object[]> page = repository.findWrittenAfter(afterTime, afterId, settings.pageSize());
+			if (page.isEmpty()) {
+				return;
+			}
+			List<Long> missing = new ArrayList<>();
+			for (Object[] row : page) {
+				long id = ((Number) row[0]).longValue();
+				if (!known.contains(((Number) row[1]).longValue(), id)) {
+					missing.add(id);
+				}
+			}
+			if (!missing.isEmpty()) {
+				loadByIds.apply(missing).forEach(add);
+			}
+			Object[] last = page.get(page.size() - 1);
+			afterId = ((Number) last[0]).longValue();
+			afterTime = toLocalDateTime(last[2]);
+			track(last[2]);
+		}
+	}
+
+	private void track(Object submittedAt) {
+		LocalDateTime time = toLocalDateTime(submittedAt);
+		if (time != null && (newest == null || time.isAfter(newest))) {
+			newest = time;
+		}
+	}
+
+	private static LocalDateTime toLocalDateTime(Object value) {
+		if (value instanceof Timestamp timestamp) {
+			return timestamp.toLocalDateTime();
+		}
+		return (LocalDateTime) value;
+	}
+}
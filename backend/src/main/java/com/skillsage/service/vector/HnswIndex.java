@@ -0,0 +1,320 @@
+package com.skillsage.service.vector;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+import com.skillsage.util.VectorMath;
+
+/**
+ * Hierarchical navigable small world graph over cosine distance. Vectors are
+ * L2-normalized on insert and kept in primitive arrays, either as floats or,
+ * in quantized mode, as int8 codes with a per-vector scale (similarities are
+ * then approximate and {@link Neighbor#vector()} is null). The graph is guarded
+ * by a read/write lock so searches run concurrently with each other and block
+ * only while a node is being linked in.
+ */
+public class HnswIndex {
+
+	public record Neighbor(long embeddingId, long candidateId, float[] vector, double similarity) {
+	}
+
+	private record Scored(int node, double distance) {
+	}
+
+	private static final Comparator<Scored> NEAREST_FIRST = Comparator.comparingDouble(Scored::distance);
+	private static final Comparator<Scored> FARTHEST_FIRST = NEAREST_FIRST.reversed();
+
+	private final boolean quantized;
+	private final int m;
+	private final int maxM0;
+	private final int efConstruction;
+	private final int efSearch;
+	private final double levelMultiplier;
+	private final SplittableRandom random = new SplittableRandom(42);
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private float[][] vectors = new float[16][];
+	private byte[][] codes = new byte[16][];
+	private float[] scales = new float[16];
+	private long[] embeddingIds = new long[16];
+	private long[] candidateIds = new long[16];
+	private int[][][] links = new int[16][][];
+	private final Set<Long> present = new HashSet<>();
+	private int size;
+	private int entryPoint = -1;
+	private int maxLevel = -1;
+
+	public HnswIndex(int m, int efConstruction, int efSearch, boolean quantized) {
+		this.quantized = quantized;
+		this.m = m;
+		this.maxM0 = m * 2;
+		this.efConstruction = efConstruction;
+		this.efSearch = efSearch;
+		this.levelMultiplier = 1.0 / Math.log(m);
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public boolean contains(long embeddingId) {
+		lock.readLock().lock();
+		try {
+			return present.contains(embeddingId);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Adds a vector; re-adding an already indexed embedding id is a no-op.
+	 */
+	public void add(long embeddingId, long candidateId, float[] vector) {
+		float[] normalized = VectorMath.normalize(vector);
+		Int8Quantizer.QuantizedVector q = quantized ? Int8Quantizer.quantize(normalized) : null;
+		insert(embeddingId, candidateId, normalized, q);
+	}
+
+	/**
+	 * Adds a vector already stored in quantized form (codes of the normalized
+	 * vector), avoiding a full-precision load when warming a quantized index.
+	 */
+	public void add(long embeddingId, long candidateId, Int8Quantizer.QuantizedVector q) {
+		float[] approx = Int8Quantizer.dequantize(q.codes(), q.scale());
+		insert(embeddingId, candidateId, approx, quantized ? q : null);
+	}
+
+	private void insert(long embeddingId, long candidateId, float[] normalized, Int8Quantizer.QuantizedVector q) {
+		lock.writeLock().lock();
+		try {
+			if (!present.add(embeddingId)) {
+				return;
+			}
+			int node = size++;
+			ensureCapacity(size);
+			if (quantized) {
+				codes[node] = q.codes();
+				scales[node] = q.scale();
+			} else {
+				vectors[node] = normalized;
+			}
+			embeddingIds[node] = embeddingId;
+			candidateIds[node] = candidateId;
+
+			int level = (int) Math.floor(-Math.log(1.0 - random.nextDouble()) * levelMultiplier);
+			links[node] = new int[level + 1][];
+			for (int l = 0; l <= level; l++) {
+				links[node][l] = new int[0];
+			}
+			if (entryPoint < 0) {
+				entryPoint = node;
+				maxLevel = level;
+				return;
+			}
+
+			int current = entryPoint;
+			for (int l = maxLevel; l > level; l--) {
+				current = greedyClosest(normalized, current, l);
+			}
+			for (int l = Math.min(level, maxLevel); l >= 0; l--) {
+				List<Scored> candidates = searchLayer(normalized, current, efConstruction, l);
+				int maxConnections = l == 0 ? maxM0 : m;
+				int[] selected = closest(candidates, m);
+				links[node][l] = selected;
+				for (int neighbor : selected) {
+					connect(neighbor, node, l, maxConnections);
+				}
+				current = candidates.get(0).node();
+			}
+			if (level > maxLevel) {
+				entryPoint = node;
+				maxLevel = level;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns up to {@code k} nearest vectors by cosine similarity, skipping
+	 * entries whose candidate id matches {@code excludeCandidate}. Excluded nodes
+	 * are still traversed so they never cut off the graph.
+	 */
+	public List<Neighbor> search(float[] query, int k, LongPredicate excludeCandidate) {
+		float[] normalized = VectorMath.normalize(query);
+		lock.readLock().lock();
+		try {
+			if (entryPoint < 0 || k <= 0) {
+				return List.of();
+			}
+			int current = entryPoint;
+			for (int l = maxLevel; l > 0; l--) {
+				current = greedyClosest(normalized, current, l);
+			}
+			int ef = Math.max(efSearch, k);
+			while (true) {
+				List<Scored> found = searchLayer(normalized, current, ef, 0);
+				List<Neighbor> result = new ArrayList<>(k);
+				for (Scored scored : found) {
+					if (excludeCandidate.test(candidateIds[scored.node()])) {
+						continue;
+					}
+					int node = scored.node();
+					result.add(new Neighbor(embeddingIds[node], candidateIds[node], quantized ? null : vectors[node],
+							1.0 - scored.distance()));
+					if (result.size() == k) {
+						break;
+					}
+				}
+				// Widen the beam when the filter removed too many hits
+				if (result.size() == k || ef >= size) {
+					return result;
+				}
+				ef = Math.min(size, ef * 2);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private int greedyClosest(float[] query, int start, int level) {
+		int current = start;
+		double currentDistance = distance(query, current);
+		boolean improved = true;
+		while (improved) {
+			improved = false;
+			for (int neighbor : links[current][level]) {
+				double d = distance(query, neighbor);
+				if (d < currentDistance) {
+					currentDistance = d;
+					current = neighbor;
+					improved = true;
+				}
+			}
+		}
+		return current;
+	}
+
+	private List<Scored> searchLayer(float[] query, int entry, int ef, int level) {
+		BitSet visited = new BitSet(size);
+		PriorityQueue<Scored> candidates = new PriorityQueue<>(NEAREST_FIRST);
+		PriorityQueue<Scored> results = new PriorityQueue<>(FARTHEST_FIRST);
+		Scored start = new Scored(entry, distance(query, entry));
+		int[] batch = new int[maxM0];
+		float[] scores = new float[maxM0];
+		visited.set(entry);
+		candidates.add(start);
+		results.add(start);
+
+		while (!candidates.isEmpty()) {
+			Scored closest = candidates.poll();
+			if (closest.distance() > results.peek().distance() && results.size() >= ef) {
+				break;
+			}
+			int[][] nodeLinks = links[closest.node()];
+			if (level >= nodeLinks.length) {
+				continue;
+			}
+			// Score all unvisited neighbours of the node in one batched call
+			int count = 0;
+			for (int neighbor : nodeLinks[level]) {
+				if (!visited.get(neighbor)) {
+					visited.set(neighbor);
+					batch[count++] = neighbor;
+				}
+			}
+			distances(query, batch, count, scores);
+			for (int k = 0; k < count; k++) {
+				int neighbor = batch[k];
+				double d = scores[k];
+				if (results.size() < ef || d < results.peek().distance()) {
+					Scored scored = new Scored(neighbor, d);
+					candidates.add(scored);
+					results.add(scored);
+					if (results.size() > ef) {
+						results.poll();
+					}
+				}
+			}
+		}
+		List<Scored> sorted = new ArrayList<>(results);
+		sorted.sort(NEAREST_FIRST);
+		return sorted;
+	}
+
+	private void connect(int from, int to, int level, int maxConnections) {
+		int[] current = links[from][level];
+		int[] updated = Arrays.copyOf(current, current.length + 1);
+		updated[current.length] = to;
+		if (updated.length > maxConnections) {
+			// Keep only the closest neighbours of `from`
+			List<Scored> scored = new ArrayList<>(updated.length);
+			float[] fromVector = quantized ? Int8Quantizer.dequantize(codes[from], scales[from]) : vectors[from];
+			float[] distances = new float[updated.length];
+			distances(fromVector, updated, updated.length, distances);
+			for (int k = 0; k < updated.length; k++) {
+				scored.add(new Scored(updated[k], distances[k]));
+			}
+			scored.sort(NEAREST_FIRST);
+			updated = closest(scored, maxConnections);
+		}
+		links[from][level] = updated;
+	}
+
+	private static int[] closest(List<Scored> sorted, int count) {
+		int n = Math.min(count, sorted.size());
+		int[] nodes = new int[n];
+		for (int i = 0; i < n; i++) {
+			nodes[i] = sorted.get(i).node();
+		}
+		return nodes;
+	}
+
+	/**
+	 * Cosine distances from {@code query} to {@code nodes[0..count)}.
+	 */
+	private void distances(float[] query, int[] nodes, int count, float[] out) {
+		if (quantized) {
+			Int8Quantizer.dotMany(query, codes, scales, nodes, count, out);
+		} else {
+			VectorMath.dotMany(query, vectors, nodes, count, out);
+		}
+		for (int k = 0; k < count; k++) {
+			out[k] = 1f - out[k];
+		}
+	}
+
+	private double distance(float[] query, int node) {
+		if (quantized) {
+			return 1.0 - Int8Quantizer.dot(query, codes[node], scales[node]);
+		}
+		return 1.0 - VectorMath.dot(query, vectors[node]);
+	}
+
+	private void ensureCapacity(int required) {
+		if (required <= vectors.length) {
+			return;
+		}
+		int capacity = Math.max(required, vectors.length * 2);
+		vectors = Arrays.copyOf(vectors, capacity);
+		codes = Arrays.copyOf(codes, capacity);
+		scales = Arrays.copyOf(scales, capacity);
+		embeddingIds = Arrays.copyOf(embeddingIds, capacity);
+		candidateIds = Arrays.copyOf(candidateIds, capacity);
+		links = Arrays.copyOf(links, capacity);
+	}
+}
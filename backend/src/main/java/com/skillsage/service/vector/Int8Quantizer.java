@@ -0,0 +1,57 @@
+package com.skillsage.service.vector;
+
+import com.skillsage.util.VectorMath;
+
+/**
+ * Symmetric int8 scalar quantization with one scale per vector:
+ * {@code value ~= code * scale}, where {@code scale = max|value| / 127}.
+ * A 768-dim embedding shrinks from 3 KB to 772 bytes.
+ */
+public final class Int8Quantizer {
+
+	public record QuantizedVector(byte[] codes, float scale) {
+	}
+
+	private Int8Quantizer() {
+	}
+
+	public static QuantizedVector quantize(float[] vector) {
+		float maxAbs = 0f;
+		for (float v : vector) {
+			maxAbs = Math.max(maxAbs, Math.abs(v));
+		}
+		float scale = maxAbs == 0f ? 1f : maxAbs / 127f;
+		byte[] codes = new byte[vector.length];
+		for (int i = 0; i < vector.length; i++) {
+			codes[i] = (byte) Math.round(vector[i] / scale);
+		}
+		return new QuantizedVector(codes, scale);
+	}
+
+	public static float[] dequantize(byte[] codes, float scale) {
+		float[] vector = new float[codes.length];
+		for (int i = 0; i < codes.length; i++) {
+			vector[i] = codes[i] * scale;
+		}
+		return vector;
+	}
+
+	/**
+	 * Asymmetric dot product: full-precision query against quantized codes.
+	 */
+	public static float dot(float[] query, byte[] codes, float scale) {
+		return VectorMath.dot(query, codes) * scale;
+	}
+
+	/**
+	 * {@link #dot(float[], byte[], float)} of one query against
+	 * {@code codes[indices[0..count)]}, each with its own scale.
+	 */
+	public static void dotMany(float[] query, byte[][] codes, float[] scales, int[] indices, int count,
+			float[] out) {
+		for (int r = 0; r < count; r++) {
+			int row = indices[r];
+			out[r] = VectorMath.dot(query, codes[row]) * scales[row];
+		}
+	}
+}
@@ -0,0 +1,184 @@
+package com.skillsage.service.vector;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.skillsage.entity.CodeEmbedding;
+import com.skillsage.entity.PgVectorCodec;
+import com.skillsage.repository.CodeEmbeddingRepository;
+import com.skillsage.util.VectorMath;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Keeps one {@link HnswIndex} per question in memory so plagiarism lookups do
+ * not scan {@code code_embeddings}. The indexes are warmed from the database in
+ * the background after startup and then follow rows written by any instance
+ * (see {@link EmbeddingTableFollower}); while warming, or when syncing has
+ * fallen behind, {@link #isReady()} is false and callers use the SQL query.
+ */
+@Service
+@RequiredArgsConstructor
+public class VectorIndexService {
+
+	private final CodeEmbeddingRepository codeEmbeddingRepository;
+
+	@Value("${vector-index.enabled:true}")
+	private boolean enabled;
+
+	@Value("${vector-index.m:16}")
+	private int m;
+
+	@Value("${vector-index.ef-construction:100}")
+	private int efConstruction;
+
+	@Value("${vector-index.ef-search:64}")
+	private int efSearch;
+
+	@Value("${vector-index.warmup-page-size:1000}")
+	private int warmupPageSize;
+
+	@Value("${vector-index.quantization:none}")
+	private String quantization;
+
+	@Value("${vector-index.rerank-oversample:4}")
+	private int rerankOversample;
+
+	@Value("${vector-index.refresh-interval-ms:5000}")
+	private long refreshIntervalMs;
+
+	@Value("${vector-index.refresh-overlap-ms:60000}")
+	private long refreshOverlapMs;
+
+	@Value("${vector-index.max-staleness-ms:30000}")
+	private long maxStalenessMs;
+
+	private final Map<Long, HnswIndex> indexes = new ConcurrentHashMap<>();
+	private volatile EmbeddingTableFollower follower;
+
+	public boolean isReady() {
+		return enabled && follower != null && follower.isFresh();
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void warmUp() {
+		if (!enabled) {
+			return;
+		}
+		follower = new EmbeddingTableFollower("vector-index", codeEmbeddingRepository,
+				new EmbeddingTableFollower.Settings(warmupPageSize, refreshIntervalMs, refreshOverlapMs, maxStalenessMs),
+				(cursor, limit) -> codeEmbeddingRepository.findEmbeddingPageAfter(cursor, limit, isQuantized()),
+				ids -> codeEmbeddingRepository.findEmbeddingRowsByIds(ids, isQuantized()),
+				(questionId, id) -> {
+					HnswIndex index = indexes.get(questionId);
+					return index != null && index.contains(id);
+				},
+				this::addRow);
+		follower.start();
+	}
+
+	private void addRow(Object[] row) {
+		long id = ((Number) row[0]).longValue();
+		long questionId = ((Number) row[1]).longValue();
+		long candidateId = ((Number) row[2]).longValue();
+		if (row[3] != null) {
+			indexFor(questionId).add(id, candidateId, PgVectorCodec.decode((byte[]) row[3]));
+		} else if (row[4] != null) {
+			indexFor(questionId).add(id, candidateId,
+					new Int8Quantizer.QuantizedVector((byte[]) row[4], ((Number) row[5]).floatValue()));
+		}
+	}
+
+	/**
+	 * Indexes a newly saved embedding. Inside a transaction the insert is
+	 * deferred until commit so a rolled-back submission never becomes searchable.
+	 */
+	public void add(CodeEmbedding embedding) {
+		if (!enabled) {
+			return;
+		}
+		Runnable insert = () -> {
+			HnswIndex index = indexFor(embedding.getQuestionId());
+			if (isQuantized() && embedding.getEmbeddingInt8() != null) {
+				index.add(embedding.getId(), embedding.getCandidateId(), new Int8Quantizer.QuantizedVector(
+						embedding.getEmbeddingInt8(), embedding.getEmbeddingScale()));
+			} else {
+				index.add(embedding.getId(), embedding.getCandidateId(), embedding.getEmbedding());
+			}
+		};
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					insert.run();
+				}
+			});
+		} else {
+			insert.run();
+		}
+	}
+
+	public int getRerankOversample() {
+		return rerankOversample;
+	}
+
+	public boolean isQuantized() {
+		return "int8".equalsIgnoreCase(quantization);
+	}
+
+	/**
+	 * Top-{@code limit} neighbours for a question. In quantized mode the coarse
+	 * search over int8 codes over-fetches {@code limit * rerank-oversample}
+	 * candidates, which are then re-ranked on full-precision vectors loaded by id.
+	 */
+	public List<HnswIndex.Neighbor> search(Long questionId, Long excludedCandidateId, float[] query, int limit) {
+		HnswIndex index = indexes.get(questionId);
+		if (index == null) {
+			return List.of();
+		}
+		long excluded = excludedCandidateId;
+		if (!isQuantized()) {
+			return index.search(query, limit, candidateId -> candidateId == excluded);
+		}
+
+		List<HnswIndex.Neighbor> coarse = index.search(query, limit * rerankOversample,
+				candidateId -> candidateId == excluded);
+		if (coarse.isEmpty()) {
+			return coarse;
+		}
+		Map<Long, HnswIndex.Neighbor> byId = new HashMap<>();
+		for (HnswIndex.Neighbor n : coarse) {
+			byId.put(n.embeddingId(), n);
+		}
+		List<Object[]> rows = codeEmbeddingRepository.findVectorsByIds(new ArrayList<>(byId.keySet()));
+		float[][] vectors = new float[rows.size()][];
+		for (int i = 0; i < vectors.length; i++) {
+			vectors[i] = PgVectorCodec.decode((byte[]) rows.get(i)[1]);
+		}
+		// Stored vectors are scored as loaded; norms come from the same pass
+		float[] similarities = new float[vectors.length];
+		VectorMath.cosineMany(VectorMath.normalize(query), vectors, similarities);
+		List<HnswIndex.Neighbor> reranked = new ArrayList<>(vectors.length);
+		for (int i = 0; i < vectors.length; i++) {
+			HnswIndex.Neighbor n = byId.get(((Number) rows.get(i)[0]).longValue());
+			reranked.add(new HnswIndex.Neighbor(n.embeddingId(), n.candidateId(), vectors[i], similarities[i]));
+		}
+		reranked.sort(Comparator.comparingDouble(HnswIndex.Neighbor::similarity).reversed());
+		return reranked.size() > limit ? reranked.subList(0, limit) : reranked;
+	}
+
+	private HnswIndex indexFor(Long questionId) {
+		return indexes.computeIfAbsent(questionId, id -> new HnswIndex(m, efConstruction, efSearch, isQuantized()));
+	}
+}
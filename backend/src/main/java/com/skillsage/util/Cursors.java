@@ -0,0 +1,66 @@
+package com.skillsage.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import com.skillsage.dto.response.PageResponse;
+import com.skillsage.exception.BadRequestException;
+
+/**
+ * Opaque continuation tokens for keyset pagination. A token wraps the id of
+ * the last row of the previous page; the next page is {@code id > cursor
+ * ORDER BY id}, so every page costs the same regardless of depth.
+ */
+public final class Cursors {
+
+	public static final int DEFAULT_PAGE_SIZE = 20;
+	public static final int MAX_PAGE_SIZE = 100;
+
+	private static final String PREFIX = "id:";
+
+	private Cursors() {
+	}
+
+	public static String encode(long id) {
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString((PREFIX + id).getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Last id seen, or 0 for the first page.
+	 */
+	public static long decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return 0;
+		}
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			if (value.startsWith(PREFIX)) {
+				return Long.parseLong(value.substring(PREFIX.length()));
+			}
+		} catch (IllegalArgumentException e) {
+			// falls through to the error below
+		}
+		throw new BadRequestException("Invalid cursor");
+	}
+
+	public static int pageSize(Integer size) {
+		if (size == null) {
+			return DEFAULT_PAGE_SIZE;
+		}
+		return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+	}
+
+	/**
+	 * Builds a page from rows fetched with a limit of {@code size + 1}; the
+	 * extra row only signals that another page exists.
+	 */
+	public static <E, T> PageResponse<T> page(List<E> rows, int size, Function<E, Long> id, Function<E, T> mapper) {
+		boolean more = rows.size() > size;
+		List<E> items = more ? rows.subList(0, size) : rows;
+		String next = more ? encode(id.apply(items.get(items.size() - 1))) : null;
+		return new PageResponse<>(items.stream().map(mapper).toList(), next);
+	}
+}
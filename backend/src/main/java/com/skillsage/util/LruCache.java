@@ -0,0 +1,37 @@
+package com.skillsage.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Small thread-safe, size-bounded LRU map for in-heap caching tiers.
+ */
+public class LruCache<K, V> {
+
+	private final Map<K, V> entries;
+
+	public LruCache(int maxEntries) {
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+				return size() > maxEntries;
+			}
+		};
+	}
+
+	public synchronized V get(K key) {
+		return entries.get(key);
+	}
+
+	public synchronized void put(K key, V value) {
+		entries.put(key, value);
+	}
+
+	public synchronized void remove(K key) {
+		entries.remove(key);
+	}
+
+	public synchronized int size() {
+		return entries.size();
+	}
+}
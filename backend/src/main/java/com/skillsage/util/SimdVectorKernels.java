@@ -0,0 +1,132 @@
+package com.skillsage.util;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShape;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Vector API kernels behind {@link VectorMath}. Only loaded when the
+ * {@code jdk.incubator.vector} module is present at runtime.
+ */
+final class SimdVectorKernels {
+
+	private static final VectorSpecies<Float> SPECIES = FloatVector.SPECIES_PREFERRED;
+
+	// int8 codes widen to floats lane for lane, so a byte vector a quarter of the
+	// float width is needed; it does not exist below 256-bit float vectors
+	private static final VectorSpecies<Byte> CODES = SPECIES.vectorBitSize() >= 256
+			? VectorSpecies.of(byte.class, VectorShape.forBitSize(SPECIES.vectorBitSize() / 4))
+			: null;
+
+	private SimdVectorKernels() {
+	}
+
+	static boolean supportsInt8() {
+		return CODES != null;
+	}
+
+	static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+		FloatVector acc = FloatVector.zero(SPECIES);
+		int i = 0;
+		int bound = SPECIES.loopBound(length);
+		for (; i < bound; i += SPECIES.length()) {
+			FloatVector va = FloatVector.fromArray(SPECIES, a, aOffset + i);
+			FloatVector vb = FloatVector.fromArray(SPECIES, b, bOffset + i);
+			acc = va.fma(vb, acc);
+		}
+		float sum = acc.reduceLanes(VectorOperators.ADD);
+		for (; i < length; i++) {
+			sum += a[aOffset + i] * b[bOffset + i];
+		}
+		return sum;
+	}
+
+	/**
+	 * Dot products of {@code query} with four rows at a time, so every query
+	 * lane is loaded once per four rows instead of once per row.
+	 */
+	static void dotMany(float[] query, float[][] rows, int[] indices, int count, float[] out) {
+		int length = query.length;
+		int bound = SPECIES.loopBound(length);
+		int r = 0;
+		for (; r + 3 < count; r += 4) {
+			float[] a = rows[indices[r]];
+			float[] b = rows[indices[r + 1]];
+			float[] c = rows[indices[r + 2]];
+			float[] d = rows[indices[r + 3]];
+			FloatVector sa = FloatVector.zero(SPECIES);
+			FloatVector sb = FloatVector.zero(SPECIES);
+			FloatVector sc = FloatVector.zero(SPECIES);
+			FloatVector sd = FloatVector.zero(SPECIES);
+			for (int i = 0; i < bound; i += SPECIES.length()) {
+				FloatVector q = FloatVector.fromArray(SPECIES, query, i);
+				sa = q.fma(FloatVector.fromArray(SPECIES, a, i), sa);
+				sb = q.fma(FloatVector.fromArray(SPECIES, b, i), sb);
+				sc = q.fma(FloatVector.fromArray(SPECIES, c, i), sc);
+				sd = q.fma(FloatVector.fromArray(SPECIES, d, i), sd);
+			}
+			float ta = sa.reduceLanes(VectorOperators.ADD);
+			float tb = sb.reduceLanes(VectorOperators.ADD);
+			float tc = sc.reduceLanes(VectorOperators.ADD);
+			float td = sd.reduceLanes(VectorOperators.ADD);
+			for (int i = bound; i < length; i++) {
+				ta += query[i] * a[i];
+				tb += query[i] * b[i];
+				tc += query[i] * c[i];
+				td += query[i] * d[i];
+			}
+			out[r] = ta;
+			out[r + 1] = tb;
+			out[r + 2] = tc;
+			out[r + 3] = td;
+		}
+		for (; r < count; r++) {
+			out[r] = dot(query, 0, rows[indices[r]], 0, length);
+		}
+	}
+
+	/**
+	 * Dot product and squared norm of {@code row} in one pass, for cosine
+	 * similarity against an already normalized query.
+	 */
+	static void dotAndNorm(float[] query, float[] row, float[] out) {
+		FloatVector dot = FloatVector.zero(SPECIES);
+		FloatVector norm = FloatVector.zero(SPECIES);
+		int i = 0;
+		int bound = SPECIES.loopBound(query.length);
+		for (; i < bound; i += SPECIES.length()) {
+			FloatVector v = FloatVector.fromArray(SPECIES, row, i);
+			dot = FloatVector.fromArray(SPECIES, query, i).fma(v, dot);
+			norm = v.fma(v, norm);
+		}
+		float d = dot.reduceLanes(VectorOperators.ADD);
+		float n = norm.reduceLanes(VectorOperators.ADD);
+		for (; i < query.length; i++) {
+			d += query[i] * row[i];
+			n += row[i] * row[i];
+		}
+		out[0] = d;
+		out[1] = n;
+	}
+
+	/**
+	 * Unscaled dot product of a float query with int8 codes, widened in-register.
+	 */
+	static float dot(float[] query, byte[] codes) {
+		FloatVector acc = FloatVector.zero(SPECIES);
+		int i = 0;
+		int bound = SPECIES.loopBound(codes.length);
+		for (; i < bound; i += SPECIES.length()) {
+			FloatVector c = (FloatVector) ByteVector.fromArray(CODES, codes, i)
+					.convertShape(VectorOperators.B2F, SPECIES, 0);
+			acc = FloatVector.fromArray(SPECIES, query, i).fma(c, acc);
+		}
+		float sum = acc.reduceLanes(VectorOperators.ADD);
+		for (; i < codes.length; i++) {
+			sum += query[i] * codes[i];
+		}
+		return sum;
+	}
+}
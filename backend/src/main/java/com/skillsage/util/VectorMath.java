@@ -0,0 +1,105 @@
+package com.skillsage.util;
+
+/**
+ * Float vector kernels for embedding similarity. Uses the JDK Vector API when
+ * the JVM was started with {@code --add-modules jdk.incubator.vector} and a
+ * plain scalar loop otherwise (or when {@code -Dskillsage.vector.scalar=true}).
+ * The int8 kernels additionally need 256-bit vectors.
+ */
+public final class VectorMath {
+
+	private static final boolean SIMD = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()
+			&& !Boolean.getBoolean("skillsage.vector.scalar");
+
+	private static final boolean SIMD_INT8 = SIMD && SimdVectorKernels.supportsInt8();
+
+	private VectorMath() {
+	}
+
+	public static boolean isSimdEnabled() {
+		return SIMD;
+	}
+
+	public static float dot(float[] a, float[] b) {
+		return dot(a, 0, b, 0, a.length);
+	}
+
+	public static float dot(float[] a, int aOffset, float[] b, int bOffset, int length) {
+		if (SIMD) {
+			return SimdVectorKernels.dot(a, aOffset, b, bOffset, length);
+		}
+		float sum = 0f;
+		for (int i = 0; i < length; i++) {
+			sum += a[aOffset + i] * b[bOffset + i];
+		}
+		return sum;
+	}
+
+	/**
+	 * Scores one query against {@code rows[indices[0..count)]}, writing one
+	 * dot product per index into {@code out}.
+	 */
+	public static void dotMany(float[] query, float[][] rows, int[] indices, int count, float[] out) {
+		if (SIMD) {
+			SimdVectorKernels.dotMany(query, rows, indices, count, out);
+			return;
+		}
+		for (int r = 0; r < count; r++) {
+			out[r] = dot(query, rows[indices[r]]);
+		}
+	}
+
+	/**
+	 * Cosine similarity of a unit-length {@code query} with every row, which
+	 * need not be normalized: each row's dot product and norm come from the
+	 * same pass, so no normalized copy is made.
+	 */
+	public static void cosineMany(float[] query, float[][] rows, float[] out) {
+		float[] parts = new float[2];
+		for (int r = 0; r < rows.length; r++) {
+			float[] row = rows[r];
+			if (SIMD) {
+				SimdVectorKernels.dotAndNorm(query, row, parts);
+			} else {
+				parts[0] = 0f;
+				parts[1] = 0f;
+				for (int i = 0; i < row.length; i++) {
+					parts[0] += query[i] * row[i];
+					parts[1] += row[i] * row[i];
+				}
+			}
+			out[r] = parts[1] == 0f ? 0f : (float) (parts[0] / Math.sqrt(parts[1]));
+		}
+	}
+
+	/**
+	 * Unscaled dot product of a float query with int8 codes.
+	 */
+	public static float dot(float[] query, byte[] codes) {
+		if (SIMD_INT8) {
+			return SimdVectorKernels.dot(query, codes);
+		}
+		float sum = 0f;
+		for (int i = 0; i < codes.length; i++) {
+			sum += query[i] * codes[i];
+		}
+		return sum;
+	}
+
+	/**
+	 * Returns a unit-length copy, so cosine similarity against other normalized
+	 * vectors is a single {@link #dot(float[], float[])}.
+	 */
+	public static float[] normalize(float[] vector) {
+		float norm = (float) Math.sqrt(dot(vector, vector));
+		float[] normalized = new float[vector.length];
+		if (norm == 0f) {
+			return normalized;
+		}
+		float inverse = 1f / norm;
+		for (int i = 0; i < vector.length; i++) {
+			normalized[i] = vector[i] * inverse;
+		}
+		return normalized;
+	}
+}
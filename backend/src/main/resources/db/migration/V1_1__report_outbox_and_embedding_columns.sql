@@ -0,0 +1,38 @@
+-- Tables and columns added on top of the baseline. Databases that ran with
+-- ddl-auto=update may already have some of them, so every statement is
+-- idempotent. Numbered 1.1 so it runs before V2 on baselined databases too.
+
+ALTER TABLE code_embeddings ADD COLUMN IF NOT EXISTS question_submission_id bigint;
+ALTER TABLE code_embeddings ADD COLUMN IF NOT EXISTS model_id varchar(255);
+ALTER TABLE code_embeddings ADD COLUMN IF NOT EXISTS embedding_int8 bytea;
+ALTER TABLE code_embeddings ADD COLUMN IF NOT EXISTS embedding_scale real;
+ALTER TABLE code_embeddings ADD COLUMN IF NOT EXISTS minhash_signature integer[];
+-- The entity never writes submitted_at; the database stamps it
+ALTER TABLE code_embeddings ALTER COLUMN submitted_at SET DEFAULT now();
+
+CREATE TABLE IF NOT EXISTS interview_report (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    interview_id bigint NOT NULL UNIQUE,
+    status varchar(255),
+    plagiarism jsonb,
+    plagiarism_revision bigint NOT NULL DEFAULT 0,
+    complexity jsonb,
+    code_quality jsonb,
+    summary jsonb,
+    created_at timestamp(6),
+    updated_at timestamp(6)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type varchar(255) NOT NULL,
+    aggregate_id bigint NOT NULL,
+    payload text,
+    status varchar(255) NOT NULL,
+    attempts integer NOT NULL,
+    available_at timestamp(6) NOT NULL,
+    last_error text,
+    created_at timestamp(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_event_status_available ON outbox_event (status, available_at);
@@ -0,0 +1,95 @@
+-- Baseline: the schema ddl-auto=update produced for the entities before any
+-- of the later migrations, constraint names included. Existing databases are
+-- baselined at this version (spring.flyway.baseline-on-migrate) and only pick
+-- up the later migrations, so nothing added since belongs here.
+
+CREATE EXTENSION IF NOT EXISTS vector;
+
+CREATE TABLE users (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    email varchar(255) NOT NULL UNIQUE,
+    first_name varchar(255) NOT NULL,
+    last_name varchar(255),
+    mobile_number varchar(255),
+    password varchar(255),
+    role varchar(255) NOT NULL CHECK (role IN ('CANDIDATE','RECRUITER')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE question (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    description varchar(255),
+    language varchar(255),
+    title varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE interview (
+    duration integer,
+    status smallint CHECK (status BETWEEN 0 AND 3),
+    candidate_id bigint,
+    created_at timestamp(6),
+    end_time timestamp(6),
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    recruiter_id bigint,
+    start_time timestamp(6),
+    updated_at timestamp(6),
+    description varchar(255),
+    title varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE interview_questions (
+    interview_id bigint NOT NULL,
+    questions_id bigint NOT NULL
+);
+
+CREATE TABLE interview_submission (
+    candidate_id bigint,
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    interview_id bigint,
+    submitted_at timestamp(6),
+    PRIMARY KEY (id),
+    UNIQUE (interview_id, candidate_id)
+);
+
+CREATE TABLE question_submission (
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    interview_submission_id bigint,
+    question_id bigint,
+    submitted_at timestamp(6),
+    code varchar(255),
+    language varchar(255),
+    status varchar(255) CHECK (status IN ('SUBMITTED','EXECUTING','COMPLETED','ERROR')),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE feedback (
+    rating integer,
+    candidate_id bigint,
+    created_at timestamp(6),
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    interview_id bigint,
+    content varchar(255),
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE code_embeddings (
+    candidate_id bigint NOT NULL,
+    id bigint GENERATED BY DEFAULT AS IDENTITY,
+    question_id bigint NOT NULL,
+    submitted_at timestamp(6),
+    embedding vector(768),
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE feedback ADD CONSTRAINT FKffqwdat14giljascv3bicwrn0 FOREIGN KEY (candidate_id) REFERENCES users;
+ALTER TABLE feedback ADD CONSTRAINT FKrw7gxomyy5b9qq4u8kxfu8xm4 FOREIGN KEY (interview_id) REFERENCES interview;
+ALTER TABLE interview ADD CONSTRAINT FKd2ssy60jf6g9g69ti7nefel4s FOREIGN KEY (candidate_id) REFERENCES users;
+ALTER TABLE interview ADD CONSTRAINT FK8dk5cx7a11aax2nknai8070b0 FOREIGN KEY (recruiter_id) REFERENCES users;
+ALTER TABLE interview_questions ADD CONSTRAINT FKobfcl4k24cy6x6rrgjmfkogl3 FOREIGN KEY (questions_id) REFERENCES question;
+ALTER TABLE interview_questions ADD CONSTRAINT FKox7efcujf6vuk5xyui46e56rw FOREIGN KEY (interview_id) REFERENCES interview;
+ALTER TABLE interview_submission ADD CONSTRAINT FKhko2bdwvv7pecbsodwit0dn80 FOREIGN KEY (candidate_id) REFERENCES users;
+ALTER TABLE interview_submission ADD CONSTRAINT FKiyjiwa0fq2vldy6cn58i3lu4w FOREIGN KEY (interview_id) REFERENCES interview;
+ALTER TABLE question_submission ADD CONSTRAINT FKjmo5j87hcq4upsgmskw37wqbn FOREIGN KEY (interview_submission_id) REFERENCES interview_submission;
+ALTER TABLE question_submission ADD CONSTRAINT FKp2ee1lrir1fwnb3jyg1v0yx8w FOREIGN KEY (question_id) REFERENCES question;
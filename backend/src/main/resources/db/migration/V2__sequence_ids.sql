@@ -0,0 +1,16 @@
+-- Move submission and embedding ids from IDENTITY columns to pooled sequences
+-- (allocationSize 50) so Hibernate can batch their inserts. Each sequence is
+-- positioned a full allocation past the current max id, whichever end of the
+-- block the pooled optimizer treats the fetched value as.
+
+CREATE SEQUENCE IF NOT EXISTS interview_submission_seq INCREMENT BY 50;
+SELECT setval('interview_submission_seq', COALESCE((SELECT MAX(id) FROM interview_submission), 0) + 50);
+ALTER TABLE interview_submission ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS question_submission_seq INCREMENT BY 50;
+SELECT setval('question_submission_seq', COALESCE((SELECT MAX(id) FROM question_submission), 0) + 50);
+ALTER TABLE question_submission ALTER COLUMN id DROP IDENTITY IF EXISTS;
+
+CREATE SEQUENCE IF NOT EXISTS code_embeddings_seq INCREMENT BY 50;
+SELECT setval('code_embeddings_seq', COALESCE((SELECT MAX(id) FROM code_embeddings), 0) + 50);
+ALTER TABLE code_embeddings ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,7 @@
+-- Free-form text no longer truncated at varchar(255). varchar -> text is
+-- binary compatible in PostgreSQL, so no table rewrite happens.
+
+ALTER TABLE question ALTER COLUMN description TYPE text;
+ALTER TABLE interview ALTER COLUMN description TYPE text;
+ALTER TABLE question_submission ALTER COLUMN code TYPE text;
+ALTER TABLE feedback ALTER COLUMN content TYPE text;
@@ -0,0 +1,38 @@
+-- B-tree indexes behind the listing, scheduling and lookup queries. Built
+-- CONCURRENTLY so writes are not blocked; see the .conf file.
+
+-- interview listings by owner (keyset on id, optional status / start-time filters)
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interview_recruiter_id ON interview (recruiter_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interview_recruiter_status_id ON interview (recruiter_id, status, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interview_recruiter_start_id ON interview (recruiter_id, start_time, id);
+DROP INDEX CONCURRENTLY IF EXISTS idx_interview_recruiter_start;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interview_candidate_id ON interview (candidate_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interview_candidate_status_id ON interview (candidate_id, status, id);
+
+-- status transitions run by the scheduler
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interview_status_start ON interview (status, start_time);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interview_status_end ON interview (status, end_time);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interview_questions_interview ON interview_questions (interview_id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_question_language_id ON question (language, id);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interview_submission_candidate_id ON interview_submission (candidate_id, id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_interview_submission_submitted_at ON interview_submission (submitted_at);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_question_submission_submission_language
+    ON question_submission (interview_submission_id, language);
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_feedback_interview ON feedback (interview_id);
+
+-- Indexes ddl-auto=update created from the same @Index declarations before
+-- they were named; the named ones above replace them
+DROP INDEX CONCURRENTLY IF EXISTS idx37w1u5xo0lm6bh1ood9y3yp5o;
+DROP INDEX CONCURRENTLY IF EXISTS idxa6udn5dvaqa40obeqbm6rsswx;
+DROP INDEX CONCURRENTLY IF EXISTS idx41dlm5m6u0il5mejpb2koxu54;
+DROP INDEX CONCURRENTLY IF EXISTS idx2voc7259v7f7iaw8qpwqxjcu5;
+DROP INDEX CONCURRENTLY IF EXISTS idxfl52qldpkhgajq51xkw7xldf0;
+DROP INDEX CONCURRENTLY IF EXISTS idxlfolnpwm3jnqr4wqpgdblnfgw;
+DROP INDEX CONCURRENTLY IF EXISTS idx6lhqeq2wi73yb2jp35vd0qwrd;
+DROP INDEX CONCURRENTLY IF EXISTS idxtguxh9piafhqgbtr8xn55lv2x;
+DROP INDEX CONCURRENTLY IF EXISTS idxwn49njfdyxnlimb78u36es1j;
@@ -0,0 +1,4 @@
+-- Intentionally empty. The global pgvector indexes first planned here were
+-- discarded when V6 rebuilds code_embeddings as a partitioned table, so V6
+-- builds every code_embeddings index once, after the copy. The version is
+-- kept so the migration history has no gap.
@@ -0,0 +1,45 @@
+-- code_embeddings becomes HASH-partitioned by question_id into a fixed set of
+-- 16 partitions, created here, so a plagiarism lookup (always filtered on
+-- question_id) is pruned to one partition and walks that partition's HNSW
+-- graph instead of the whole table. The partition count never grows and the
+-- application never creates partitions at runtime. The filter is applied
+-- after the HNSW scan, so the similarity query enables iterative scans for
+-- its own transaction (pgvector.hnsw.iterative-scan, pgvector 0.8+).
+--
+-- The HNSW indexes are built once, on the partitions, after the rows are
+-- copied. The halfvec expression index serves the coarse pass of the quantized
+-- search and must match its ORDER BY expression exactly.
+--
+-- Rebuilds the table under an exclusive lock: run during a maintenance window.
+
+ALTER TABLE code_embeddings RENAME TO code_embeddings_legacy;
+
+CREATE TABLE code_embeddings (LIKE code_embeddings_legacy INCLUDING DEFAULTS)
+    PARTITION BY HASH (question_id);
+
+-- Unique constraints on a partitioned table must include the partition key
+ALTER TABLE code_embeddings ADD PRIMARY KEY (id, question_id);
+
+DO $$
+BEGIN
+    FOR r IN 0..15 LOOP
+        EXECUTE format('CREATE TABLE code_embeddings_p%s PARTITION OF code_embeddings'
+            ' FOR VALUES WITH (MODULUS 16, REMAINDER %s)', r, r);
+    END LOOP;
+END $$;
+
+INSERT INTO code_embeddings SELECT * FROM code_embeddings_legacy;
+
+DROP TABLE code_embeddings_legacy;
+
+-- Indexes on the parent cascade to every partition
+CREATE INDEX idx_code_embeddings_embedding_hnsw
+    ON code_embeddings USING hnsw (embedding vector_cosine_ops) WITH (m = 16, ef_construction = 64);
+
+CREATE INDEX idx_code_embeddings_embedding_halfvec_hnsw
+    ON code_embeddings USING hnsw ((CAST(embedding AS halfvec(768))) halfvec_cosine_ops)
+    WITH (m = 16, ef_construction = 64);
+
+CREATE INDEX idx_code_embeddings_question_candidate ON code_embeddings (question_id, candidate_id);
+
+CREATE INDEX idx_code_embeddings_question_submission ON code_embeddings (question_submission_id);
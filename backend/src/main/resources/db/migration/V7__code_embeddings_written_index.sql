@@ -0,0 +1,5 @@
+-- Backs the (submitted_at, id) keyset scan the in-memory indexes use to pick
+-- up embeddings written by other instances. Declared on the partitioned
+-- parent, so it cascades to every partition.
+
+CREATE INDEX IF NOT EXISTS idx_code_embeddings_submitted_at_id ON code_embeddings (submitted_at, id);
@@ -0,0 +1,5 @@
+-- Revision counter for the plagiarism section of a report. New embeddings for
+-- a question clear the section and bump the counter; a report job only
+-- writes back a section computed at the current revision.
+
+ALTER TABLE interview_report ADD COLUMN IF NOT EXISTS plagiarism_revision bigint NOT NULL DEFAULT 0;
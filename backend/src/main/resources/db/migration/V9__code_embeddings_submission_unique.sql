@@ -0,0 +1,18 @@
+-- At most one embedding per question submission and model, so a replayed or
+-- concurrently claimed EMBEDDING event cannot write a duplicate row; inserts
+-- use ON CONFLICT DO NOTHING against this index. Unique indexes on a
+-- partitioned table must include the partition key, hence question_id. It
+-- also serves the question_submission_id lookups, which makes the plain index
+-- on that column redundant.
+
+DELETE FROM code_embeddings a
+    USING code_embeddings b
+    WHERE a.question_submission_id = b.question_submission_id
+    AND a.model_id = b.model_id
+    AND a.question_id = b.question_id
+    AND a.id > b.id;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uq_code_embeddings_submission_model
+    ON code_embeddings (question_submission_id, model_id, question_id);
+
+DROP INDEX IF EXISTS idx_code_embeddings_question_submission;
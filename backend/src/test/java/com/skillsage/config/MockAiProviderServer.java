@@ -0,0 +1,275 @@
+package com.skillsage.config;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.skillsage.util.Hashing;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Local stand-in for the Gemini and HuggingFace endpoints, started with the
+ * {@code mock} profile so the AI pipeline can be load-tested offline.
+ * Responses are deterministic for a given input: embeddings are seeded from
+ * the code, and Gemini answers either follow the request's
+ * {@code responseSchema} or are picked from canned text by prompt hash.
+ * Latency, 429 and 5xx rates are configurable per provider. The delay and
+ * error injected into a request are drawn from {@code mock-ai.seed}, a hash
+ * of the request body and how many times that body has been seen, so a run
+ * is reproducible however concurrent requests interleave while retries of a
+ * failed request still get a fresh draw.
+ */
+@Component
+@Profile("mock")
+public class MockAiProviderServer {
+
+	private static final String[] CANNED_TEXT = {
+			"The submission solves the problem with a clear, readable approach and handles the common edge cases.",
+			"The candidate uses a straightforward solution; naming is consistent and the logic is easy to follow.",
+			"The code works for the sample inputs, though some edge cases such as empty input are not handled.",
+			"The solution is close to optimal and well structured, with only minor opportunities to simplify." };
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final Map<String, AtomicInteger> deliveries = new ConcurrentHashMap<>();
+	private HttpServer server;
+
+	@Value("${mock-ai.port:18080}")
+	private int port;
+
+	@Value("${mock-ai.seed:42}")
+	private long seed;
+
+	@Value("${embedding.dimension:768}")
+	private int dimension;
+
+	@Value("${mock-ai.gemini.latency.distribution:lognormal}")
+	private String geminiDistribution;
+
+	@Value("${mock-ai.gemini.latency.median-ms:800}")
+	private double geminiMedianMs;
+
+	@Value("${mock-ai.gemini.latency.sigma:0.5}")
+	private double geminiSigma;
+
+	@Value("${mock-ai.gemini.error-rate:0.0}")
+	private double geminiErrorRate;
+
+	@Value("${mock-ai.gemini.rate-limit-rate:0.0}")
+	private double geminiRateLimitRate;
+
+	@Value("${mock-ai.gemini.stream-chunks:8}")
+	private int streamChunks;
+
+	@Value("${mock-ai.huggingface.latency.distribution:lognormal}")
+	private String hfDistribution;
+
+	@Value("${mock-ai.huggingface.latency.median-ms:150}")
+	private double hfMedianMs;
+
+	@Value("${mock-ai.huggingface.latency.sigma:0.4}")
+	private double hfSigma;
+
+	@Value("${mock-ai.huggingface.error-rate:0.0}")
+	private double hfErrorRate;
+
+	@Value("${mock-ai.huggingface.tokens:4}")
+	private int hfTokens;
+
+	@PostConstruct
+	public void start() throws IOException {
+		server = HttpServer.create(new InetSocketAddress("localhost", port), 0);
+		server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+		server.createContext("/gemini/", this::handleGemini);
+		server.createContext("/hf/", this::handleHuggingFace);
+		server.start();
+	}
+
+	public int getPort() {
+		return server.getAddress().getPort();
+	}
+
+	@PreDestroy
+	public void stop() {
+		server.stop(0);
+	}
+
+	private void handleGemini(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			byte[] body = exchange.getRequestBody().readAllBytes();
+			SplittableRandom random = randomFor(exchange, body);
+			JsonNode request = objectMapper.readTree(body);
+			String prompt = request.path("contents").path(0).path("parts").path(0).path("text").asText("");
+			JsonNode schema = request.path("generationConfig").path("responseSchema");
+			long latency = sampleLatency(random, geminiDistribution, geminiMedianMs, geminiSigma);
+
+			double roll = random.nextDouble();
+			if (roll < geminiRateLimitRate) {
+				sleep(latency / 10);
+				sendError(exchange, 429, "RESOURCE_EXHAUSTED");
+				return;
+			}
+			if (roll < geminiRateLimitRate + geminiErrorRate) {
+				sleep(latency);
+				sendError(exchange, 503, "UNAVAILABLE");
+				return;
+			}
+
+			String text = schema.isMissingNode() ? CANNED_TEXT[Math.floorMod(prompt.hashCode(), CANNED_TEXT.length)]
+					: objectMapper.writeValueAsString(sample(schema, prompt));
+			if (exchange.getRequestURI().getPath().endsWith(":streamGenerateContent")) {
+				exchange.getResponseHeaders().add("Content-Type", "text/event-stream");
+				exchange.sendResponseHeaders(200, 0);
+				OutputStream out = exchange.getResponseBody();
+				int chunks = Math.max(1, Math.min(streamChunks, text.length()));
+				int step = (text.length() + chunks - 1) / chunks;
+				for (int i = 0; i < text.length(); i += step) {
+					sleep(latency / chunks);
+					String event = "data: " + objectMapper.writeValueAsString(candidate(text.substring(i,
+							Math.min(text.length(), i + step)))) + "\r\n\r\n";
+					out.write(event.getBytes(StandardCharsets.UTF_8));
+					out.flush();
+				}
+			} else {
+				sleep(latency);
+				sendJson(exchange, 200, candidate(text));
+			}
+		}
+	}
+
+	private void handleHuggingFace(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			byte[] body = exchange.getRequestBody().readAllBytes();
+			SplittableRandom random = randomFor(exchange, body);
+			JsonNode inputs = objectMapper.readTree(body).path("inputs");
+			sleep(sampleLatency(random, hfDistribution, hfMedianMs, hfSigma));
+			if (random.nextDouble() < hfErrorRate) {
+				sendError(exchange, 503, "Model is currently loading");
+				return;
+			}
+			if (inputs.isArray()) {
+				List<List<List<Double>>> batch = new ArrayList<>();
+				for (JsonNode input : inputs) {
+					batch.add(tokenMatrix(input.asText()));
+				}
+				sendJson(exchange, 200, batch);
+			} else {
+				sendJson(exchange, 200, tokenMatrix(inputs.asText()));
+			}
+		}
+	}
+
+	/**
+	 * Fake feature-extraction output: a few token vectors seeded from the code,
+	 * so identical snippets always embed identically.
+	 */
+	private List<List<Double>> tokenMatrix(String code) {
+		SplittableRandom random = new SplittableRandom(Hashing.sha256Hex(code).hashCode());
+		List<List<Double>> tokens = new ArrayList<>(hfTokens);
+		for (int t = 0; t < hfTokens; t++) {
+			List<Double> vector = new ArrayList<>(dimension);
+			for (int d = 0; d < dimension; d++) {
+				vector.add(random.nextDouble(-1, 1));
+			}
+			tokens.add(vector);
+		}
+		return tokens;
+	}
+
+	/**
+	 * Deterministic instance of a Gemini response schema.
+	 */
+	private JsonNode sample(JsonNode schema, String prompt) {
+		switch (schema.path("type").asText()) {
+		case "OBJECT": {
+			ObjectNode node = objectMapper.createObjectNode();
+			Iterator<Map.Entry<String, JsonNode>> fields = schema.path("properties").fields();
+			while (fields.hasNext()) {
+				Map.Entry<String, JsonNode> field = fields.next();
+				node.set(field.getKey(), sample(field.getValue(), prompt + field.getKey()));
+			}
+			return node;
+		}
+		case "ARRAY": {
+			ArrayNode node = objectMapper.createArrayNode();
+			node.add(sample(schema.path("items"), prompt));
+			return node;
+		}
+		case "BOOLEAN":
+			return objectMapper.getNodeFactory().booleanNode(prompt.hashCode() % 4 != 0);
+		case "INTEGER":
+		case "NUMBER":
+			return objectMapper.getNodeFactory().numberNode(Math.floorMod(prompt.hashCode(), 5));
+		default:
+			return objectMapper.getNodeFactory().textNode(CANNED_TEXT[Math.floorMod(prompt.hashCode(), CANNED_TEXT.length)]);
+		}
+	}
+
+	private Map<String, Object> candidate(String text) {
+		return Map.of("candidates", List.of(Map.of(
+				"content", Map.of("role", "model", "parts", List.of(Map.of("text", text))),
+				"finishReason", "STOP")));
+	}
+
+	private SplittableRandom randomFor(HttpExchange exchange, byte[] body) {
+		String digest = Hashing.sha256Hex(exchange.getRequestURI().getPath() + "\n"
+				+ new String(body, StandardCharsets.UTF_8));
+		int delivery = deliveries.computeIfAbsent(digest, d -> new AtomicInteger()).getAndIncrement();
+		return new SplittableRandom((seed * 31 + digest.hashCode()) * 31 + delivery);
+	}
+
+	private static long sampleLatency(SplittableRandom random, String distribution, double medianMs, double sigma) {
+		return switch (distribution) {
+		case "fixed" -> (long) medianMs;
+		case "uniform" -> (long) random.nextDouble(0, 2 * medianMs + 1);
+		default -> {
+			// Box-Muller normal sample for a log-normal with the given median
+			double gaussian = Math.sqrt(-2 * Math.log(1 - random.nextDouble()))
+					* Math.cos(2 * Math.PI * random.nextDouble());
+			yield (long) (medianMs * Math.exp(sigma * gaussian));
+		}
+		};
+	}
+
+	private void sendError(HttpExchange exchange, int status, String message) throws IOException {
+		sendJson(exchange, status, Map.of("error", Map.of("code", status, "message", message)));
+	}
+
+	private void sendJson(HttpExchange exchange, int status, Object body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		exchange.getResponseBody().write(bytes);
+	}
+
+	private static void sleep(long millis) {
+		if (millis <= 0) {
+			return;
+		}
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,61 @@
+package com.skillsage.service.embedding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class CodeNormalizerTest {
+
+	@Test
+	void freeFormLanguageIgnoresCommentsAndLayout() {
+		String compact = "int add(int a, int b) { return a + b; }";
+		String commented = """
+				// adds two numbers
+				int add(int a,   int b) {
+				    /* sum */ return a + b;
+				}
+				""";
+
+		assertThat(CodeNormalizer.normalize(commented, "java")).isEqualTo(CodeNormalizer.normalize(compact, "java"));
+	}
+
+	@Test
+	void pythonKeepsIndentationThatChangesMeaning() {
+		String inside = """
+				for x in xs:
+				    total += x
+				    print(total)
+				""";
+		String after = """
+				for x in xs:
+				    total += x
+				print(total)
+				""";
+
+		assertThat(CodeNormalizer.normalize(inside, "python")).isNotEqualTo(CodeNormalizer.normalize(after, "python"));
+	}
+
+	@Test
+	void pythonIgnoresCommentsBlankLinesAndTrailingSpaces() {
+		String plain = "def f(x):\n    return x * 2";
+		String noisy = "# doubles x\ndef f(x):   \n\n    return x  *  2  # result\n";
+
+		assertThat(CodeNormalizer.normalize(noisy, "python")).isEqualTo(plain);
+	}
+
+	@Test
+	void slashesAreOnlyCommentsInLanguagesThatUseThem() {
+		assertThat(CodeNormalizer.normalize("x = 7 // 2", "python")).isEqualTo("x = 7 // 2");
+		assertThat(CodeNormalizer.normalize("x = 7 // 2", "java")).isEqualTo("x = 7");
+	}
+
+	@Test
+	void unknownLanguageKeepsLineStructure() {
+		assertThat(CodeNormalizer.normalize("if a:\n  b\nc", null)).isEqualTo("if a:\n  b\nc");
+	}
+
+	@Test
+	void stringLiteralsAreLeftIntact() {
+		assertThat(CodeNormalizer.normalize("s = \"a  // b\";", "java")).isEqualTo("s = \"a  // b\";");
+	}
+}
@@ -0,0 +1,79 @@
+package com.skillsage.service.llm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.skillsage.dto.response.AIFeedbackSummary;
+import com.skillsage.dto.response.InterviewAnalysis;
+
+class JsonExtractorTest {
+
+	@Test
+	void extractsObjectFromMarkdownFence() {
+		String text = "```json\n{\"content\": \"Solid work\", \"rating\": \"3/4\"}\n```";
+
+		assertThat(JsonExtractor.extract(text, AIFeedbackSummary.class))
+				.isEqualTo(new AIFeedbackSummary("Solid work", "3/4"));
+	}
+
+	@Test
+	void extractsObjectSurroundedByProse() {
+		String text = "Sure! Here is the summary: {\"content\": \"Clean code\", \"rating\": \"4/4\"} Let me know.";
+
+		assertThat(JsonExtractor.extract(text, AIFeedbackSummary.class))
+				.isEqualTo(new AIFeedbackSummary("Clean code", "4/4"));
+	}
+
+	@Test
+	void skipsBraceThatDoesNotStartJson() {
+		String text = "Use {braces} wisely: {\"content\": \"ok\", \"rating\": \"2/4\"}";
+
+		assertThat(JsonExtractor.extract(text, AIFeedbackSummary.class))
+				.isEqualTo(new AIFeedbackSummary("ok", "2/4"));
+	}
+
+	@Test
+	void bindsObjectFedInChunksSplitMidToken() {
+		JsonExtractor<AIFeedbackSummary> extractor = new JsonExtractor<>(AIFeedbackSummary.class);
+
+		assertThat(extractor.feed("Result: {\"cont")).isFalse();
+		assertThat(extractor.feed("ent\": \"Naïve but corr")).isFalse();
+		assertThat(extractor.feed("ect\", \"rating\": \"2/")).isFalse();
+		assertThat(extractor.feed("4\"} trailing prose")).isTrue();
+
+		assertThat(extractor.result()).isEqualTo(new AIFeedbackSummary("Naïve but correct", "2/4"));
+	}
+
+	@Test
+	void ignoresChunksAfterTheFirstObject() {
+		JsonExtractor<AIFeedbackSummary> extractor = new JsonExtractor<>(AIFeedbackSummary.class);
+		extractor.feed("{\"content\": \"first\", \"rating\": \"1/4\"}");
+
+		assertThat(extractor.feed("{\"content\": \"second\", \"rating\": \"4/4\"}")).isTrue();
+		assertThat(extractor.result().getContent()).isEqualTo("first");
+	}
+
+	@Test
+	void skipsWholeObjectWhoseNestedValueDoesNotBind() {
+		// "content" must be a string; its nested object must not be taken as the answer
+		String text = "{\"content\": {\"text\": \"é\"}, \"rating\": \"1/4\"} corrected: "
+				+ "{\"content\": \"ok\", \"rating\": \"3/4\"}";
+
+		assertThat(JsonExtractor.extract(text, AIFeedbackSummary.class))
+				.isEqualTo(new AIFeedbackSummary("ok", "3/4"));
+	}
+
+	@Test
+	void returnsNullWhenOnlyObjectDoesNotBind() {
+		String text = "{\"summary\": {\"content\": [1, 2]}, \"questions\": []}";
+
+		assertThat(JsonExtractor.extract(text, InterviewAnalysis.class)).isNull();
+	}
+
+	@Test
+	void returnsNullWithoutJson() {
+		assertThat(JsonExtractor.extract("No response from the model.", AIFeedbackSummary.class)).isNull();
+		assertThat(JsonExtractor.extract(null, AIFeedbackSummary.class)).isNull();
+	}
+}
@@ -0,0 +1,139 @@
+package com.skillsage.service.llm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.skillsage.exception.GeminiException;
+import com.skillsage.service.resilience.CircuitBreakerRegistry;
+
+class LlmRequestSchedulerTest {
+
+	private LlmRequestScheduler scheduler;
+
+	@AfterEach
+	void stop() {
+		if (scheduler != null) {
+			scheduler.stop();
+		}
+	}
+
+	@Test
+	void bulkheadCapsCallsInFlight() throws Exception {
+		scheduler = configure(new MockEnvironment());
+		ReflectionTestUtils.setField(scheduler, "maxConcurrent", 2);
+		scheduler.start();
+		List<CompletableFuture<String>> calls = new CopyOnWriteArrayList<>();
+
+		List<CompletableFuture<String>> results = List.of(submit(calls), submit(calls), submit(calls));
+		waitFor(() -> calls.size() == 2);
+		Thread.sleep(100);
+		assertThat(calls).as("third call waits for a slot").hasSize(2);
+
+		calls.get(0).complete("first");
+		waitFor(() -> calls.size() == 3);
+		calls.get(1).complete("second");
+		calls.get(2).complete("third");
+		assertThat(results.get(2).get(1, TimeUnit.SECONDS)).isEqualTo("third");
+	}
+
+	@Test
+	void callThatOutlivesTheTimeLimitFails() {
+		scheduler = configure(new MockEnvironment());
+		ReflectionTestUtils.setField(scheduler, "timeoutMs", 100L);
+		scheduler.start();
+
+		CompletableFuture<String> result = scheduler.submit(LlmPriority.INTERACTIVE, CompletableFuture::new);
+
+		assertThatThrownBy(() -> result.get(2, TimeUnit.SECONDS)).isInstanceOf(ExecutionException.class)
+				.cause().isInstanceOf(GeminiException.class).cause().isInstanceOf(TimeoutException.class);
+	}
+
+	@Test
+	void callWaitingForRateLimitCapacityExpires() {
+		scheduler = configure(new MockEnvironment());
+		ReflectionTestUtils.setField(scheduler, "requestsPerMinute", 1.0);
+		ReflectionTestUtils.setField(scheduler, "burst", 1);
+		ReflectionTestUtils.setField(scheduler, "maxWaitMs", 100L);
+		scheduler.start();
+
+		CompletableFuture<String> first = scheduler.submit(LlmPriority.INTERACTIVE,
+				() -> CompletableFuture.completedFuture("ok"));
+		CompletableFuture<String> second = scheduler.submit(LlmPriority.INTERACTIVE,
+				() -> CompletableFuture.completedFuture("late"));
+
+		assertThat(first.join()).isEqualTo("ok");
+		assertThatThrownBy(() -> second.get(2, TimeUnit.SECONDS)).cause()
+				.isInstanceOfSatisfying(GeminiException.class, e -> assertThat(e.getStatusCode()).isEqualTo(429));
+	}
+
+	@Test
+	void openCircuitRejectsWithoutCallingTheProvider() {
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("resilience.gemini.sliding-window", "1")
+				.withProperty("resilience.gemini.minimum-calls", "1")
+				.withProperty("resilience.gemini.open-ms", "60000");
+		scheduler = configure(environment);
+		scheduler.start();
+		AtomicInteger invocations = new AtomicInteger();
+
+		CompletableFuture<String> failing = scheduler.submit(LlmPriority.INTERACTIVE, () -> {
+			invocations.incrementAndGet();
+			return CompletableFuture.failedFuture(new GeminiException(500, "boom"));
+		});
+		assertThatThrownBy(failing::join).cause().isInstanceOf(GeminiException.class);
+
+		CompletableFuture<String> rejected = scheduler.submit(LlmPriority.INTERACTIVE, () -> {
+			invocations.incrementAndGet();
+			return CompletableFuture.completedFuture("unreachable");
+		});
+		assertThatThrownBy(rejected::join).cause()
+				.isInstanceOfSatisfying(GeminiException.class, e -> assertThat(e.getStatusCode()).isEqualTo(503));
+		assertThat(invocations).hasValue(1);
+	}
+
+	/**
+	 * A scheduler with generous limits and no retries; tests tighten the one
+	 * they exercise before calling {@code start()}.
+	 */
+	private static LlmRequestScheduler configure(MockEnvironment environment) {
+		LlmRequestScheduler scheduler = new LlmRequestScheduler(new CircuitBreakerRegistry(environment));
+		ReflectionTestUtils.setField(scheduler, "requestsPerMinute", 60_000.0);
+		ReflectionTestUtils.setField(scheduler, "burst", 100);
+		ReflectionTestUtils.setField(scheduler, "queueCapacity", 100);
+		ReflectionTestUtils.setField(scheduler, "maxWaitMs", 30_000L);
+		ReflectionTestUtils.setField(scheduler, "maxAttempts", 1);
+		ReflectionTestUtils.setField(scheduler, "maxConcurrent", 8);
+		ReflectionTestUtils.setField(scheduler, "timeoutMs", 60_000L);
+		return scheduler;
+	}
+
+	private CompletableFuture<String> submit(List<CompletableFuture<String>> calls) {
+		return scheduler.submit(LlmPriority.INTERACTIVE, () -> {
+			CompletableFuture<String> call = new CompletableFuture<>();
+			calls.add(call);
+			return call;
+		});
+	}
+
+	private static void waitFor(BooleanSupplier condition) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+		while (!condition.getAsBoolean()) {
+			assertThat(System.nanoTime()).as("condition not met in time").isLessThan(deadline);
+			Thread.sleep(5);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.skillsage.service.llm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.skillsage.config.GeminiService;
+import com.skillsage.config.MockAiProviderServer;
+import com.skillsage.dto.response.CodeQualityCheck;
+import com.skillsage.exception.GeminiException;
+import com.skillsage.service.resilience.CircuitBreakerRegistry;
+
+/**
+ * Drives the Gemini client and the scheduler concurrently against
+ * {@link MockAiProviderServer} with injected latency and failures.
+ */
+class MockAiProviderLoadTest {
+
+	private final List<Runnable> cleanup = new ArrayList<>();
+
+	@AfterEach
+	void stop() {
+		cleanup.forEach(Runnable::run);
+	}
+
+	@Test
+	void injectedFailuresDependOnRequestContentNotArrivalOrder() throws Exception {
+		List<String> prompts = IntStream.range(0, 40).mapToObj(i -> "Review submission " + i).toList();
+		List<String> reversed = new ArrayList<>(prompts);
+		Collections.reverse(reversed);
+
+		Map<String, String> forward = outcomes(gemini(mockServer(0.2, 0.2)), prompts);
+		Map<String, String> backward = outcomes(gemini(mockServer(0.2, 0.2)), reversed);
+
+		assertThat(forward).isEqualTo(backward);
+		assertThat(forward.values()).contains("status 429", "status 503")
+				.anyMatch(outcome -> !outcome.startsWith("status "));
+	}
+
+	@Test
+	void schedulerCompletesEveryCallDespiteInjectedFailures() throws Exception {
+		GeminiService gemini = gemini(mockServer(0.05, 0.05));
+		LlmClient client = new LlmClient(gemini, responseCache(), scheduler());
+		ReflectionTestUtils.setField(client, "responseSchemaEnabled", true);
+
+		List<Future<CodeQualityCheck>> calls = new ArrayList<>();
+		try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < 200; i++) {
+				String prompt = "Assess the code quality of submission " + i;
+				calls.add(callers.submit(() -> client.generateJson(prompt, LlmPriority.BACKGROUND,
+						CodeQualityCheck.class)));
+			}
+		}
+
+		for (Future<CodeQualityCheck> call : calls) {
+			assertThat(call.get()).isNotNull().extracting(CodeQualityCheck::getContent).asString().isNotBlank();
+		}
+	}
+
+	private Map<String, String> outcomes(GeminiService gemini, List<String> prompts) throws Exception {
+		Map<String, String> outcomes = new ConcurrentHashMap<>();
+		try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (String prompt : prompts) {
+				callers.submit(() -> {
+					try {
+						outcomes.put(prompt, gemini.generateResponse(prompt));
+					} catch (GeminiException e) {
+						outcomes.put(prompt, "status " + e.getStatusCode());
+					}
+				});
+			}
+		}
+		return outcomes;
+	}
+
+	private MockAiProviderServer mockServer(double rateLimitRate, double errorRate) throws Exception {
+		MockAiProviderServer server = new MockAiProviderServer();
+		ReflectionTestUtils.setField(server, "port", 0);
+		ReflectionTestUtils.setField(server, "seed", 42L);
+		ReflectionTestUtils.setField(server, "dimension", 8);
+		ReflectionTestUtils.setField(server, "geminiDistribution", "lognormal");
+		ReflectionTestUtils.setField(server, "geminiMedianMs", 10.0);
+		ReflectionTestUtils.setField(server, "geminiSigma", 0.5);
+		ReflectionTestUtils.setField(server, "geminiErrorRate", errorRate);
+		ReflectionTestUtils.setField(server, "geminiRateLimitRate", rateLimitRate);
+		ReflectionTestUtils.setField(server, "streamChunks", 4);
+		ReflectionTestUtils.setField(server, "hfDistribution", "fixed");
+		ReflectionTestUtils.setField(server, "hfMedianMs", 0.0);
+		ReflectionTestUtils.setField(server, "hfSigma", 0.0);
+		ReflectionTestUtils.setField(server, "hfErrorRate", 0.0);
+		ReflectionTestUtils.setField(server, "hfTokens", 2);
+		server.start();
+		cleanup.add(server::stop);
+		return server;
+	}
+
+	private GeminiService gemini(MockAiProviderServer server) {
+		GeminiService gemini = new GeminiService();
+		ReflectionTestUtils.setField(gemini, "apiKey", "mock");
+		ReflectionTestUtils.setField(gemini, "baseUrl", "http://localhost:" + server.getPort() + "/gemini/v1beta");
+		ReflectionTestUtils.setField(gemini, "model", "gemini-2.0-flash");
+		ReflectionTestUtils.setField(gemini, "connectTimeoutMs", 2_000L);
+		ReflectionTestUtils.setField(gemini, "readTimeoutMs", 10_000L);
+		ReflectionTestUtils.setField(gemini, "streamTimeoutMs", 10_000L);
+		gemini.init();
+		cleanup.add(gemini::stop);
+		return gemini;
+	}
+
+	/**
+	 * Retries with short backoff and a breaker that only opens on sustained
+	 * failure, so the injected 429s and 503s are absorbed by retries.
+	 */
+	private LlmRequestScheduler scheduler() {
+		MockEnvironment environment = new MockEnvironment()
+				.withProperty("resilience.gemini.failure-rate-threshold", "90");
+		LlmRequestScheduler scheduler = new LlmRequestScheduler(new CircuitBreakerRegistry(environment));
+		ReflectionTestUtils.setField(scheduler, "requestsPerMinute", 60_000.0);
+		ReflectionTestUtils.setField(scheduler, "burst", 50);
+		ReflectionTestUtils.setField(scheduler, "queueCapacity", 500);
+		ReflectionTestUtils.setField(scheduler, "maxWaitMs", 30_000L);
+		ReflectionTestUtils.setField(scheduler, "maxAttempts", 5);
+		ReflectionTestUtils.setField(scheduler, "baseDelayMs", 10L);
+		ReflectionTestUtils.setField(scheduler, "maxDelayMs", 100L);
+		ReflectionTestUtils.setField(scheduler, "maxConcurrent", 8);
+		ReflectionTestUtils.setField(scheduler, "timeoutMs", 10_000L);
+		scheduler.start();
+		cleanup.add(scheduler::stop);
+		return scheduler;
+	}
+
+	private GeminiResponseCache responseCache() {
+		GeminiResponseCache cache = new GeminiResponseCache(null);
+		ReflectionTestUtils.setField(cache, "enabled", true);
+		ReflectionTestUtils.setField(cache, "heapEntries", 1_000);
+		ReflectionTestUtils.setField(cache, "redisEnabled", false);
+		cache.init();
+		return cache;
+	}
+}
@@ -0,0 +1,57 @@
+package com.skillsage.service.llm;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.skillsage.dto.response.AIFeedbackSummary;
+import com.skillsage.dto.response.CheckSubmissionResponse;
+import com.skillsage.dto.response.InterviewAnalysis;
+
+class ResponseSchemasTest {
+
+	@Test
+	void describesFlatObjectInFieldOrder() {
+		Map<String, Object> schema = ResponseSchemas.of(AIFeedbackSummary.class);
+
+		assertThat(schema).containsEntry("type", "OBJECT")
+				.containsEntry("propertyOrdering", List.of("content", "rating"));
+		assertThat(properties(schema)).containsEntry("content", Map.of("type", "STRING"))
+				.containsEntry("rating", Map.of("type", "STRING"));
+	}
+
+	@Test
+	void mapsPrimitiveFieldTypes() {
+		Map<String, Object> properties = properties(ResponseSchemas.of(CheckSubmissionResponse.class));
+
+		assertThat(properties).containsEntry("willWork", Map.of("type", "BOOLEAN"))
+				.containsEntry("issues", Map.of("type", "STRING"));
+	}
+
+	@Test
+	void describesNestedObjectsAndLists() {
+		Map<String, Object> properties = properties(ResponseSchemas.of(InterviewAnalysis.class));
+
+		assertThat(properties.get("summary")).isEqualTo(ResponseSchemas.of(AIFeedbackSummary.class));
+		@SuppressWarnings("unchecked")
+		Map<String, Object> questions = (Map<String, Object>) properties.get("questions");
+		assertThat(questions).containsEntry("type", "ARRAY");
+		@SuppressWarnings("unchecked")
+		Map<String, Object> item = (Map<String, Object>) questions.get("items");
+		assertThat(properties(item)).containsOnlyKeys("questionName", "timeComplexity", "spaceComplexity",
+				"quality", "correctness");
+	}
+
+	@Test
+	void cachesSchemaPerType() {
+		assertThat(ResponseSchemas.of(AIFeedbackSummary.class)).isSameAs(ResponseSchemas.of(AIFeedbackSummary.class));
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> properties(Map<String, Object> schema) {
+		return (Map<String, Object>) schema.get("properties");
+	}
+}
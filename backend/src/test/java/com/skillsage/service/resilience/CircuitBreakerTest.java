@@ -0,0 +1,98 @@
+package com.skillsage.service.resilience;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+import com.skillsage.service.resilience.CircuitBreaker.State;
+
+class CircuitBreakerTest {
+
+	@Test
+	void opensOnceFailureRateReachesThreshold() {
+		CircuitBreaker breaker = new CircuitBreaker("test", 4, 4, 50, 60_000, 1);
+
+		breaker.onSuccess(breaker.tryAcquire());
+		breaker.onFailure(breaker.tryAcquire());
+		breaker.onSuccess(breaker.tryAcquire());
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+		breaker.onFailure(breaker.tryAcquire());
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+		assertThat(breaker.tryAcquire()).isNull();
+	}
+
+	@Test
+	void staysClosedBelowMinimumCalls() {
+		CircuitBreaker breaker = new CircuitBreaker("test", 10, 5, 50, 60_000, 1);
+
+		for (int i = 0; i < 4; i++) {
+			breaker.onFailure(breaker.tryAcquire());
+		}
+
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void halfOpenProbesCloseTheBreaker() {
+		CircuitBreaker breaker = openBreaker(2);
+
+		CircuitBreaker.Permit first = breaker.tryAcquire();
+		CircuitBreaker.Permit second = breaker.tryAcquire();
+		assertThat(breaker.tryAcquire()).as("probes are limited").isNull();
+
+		breaker.onSuccess(first);
+		assertThat(breaker.getState()).isEqualTo(State.HALF_OPEN);
+		breaker.onSuccess(second);
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void failedProbeReopens() throws InterruptedException {
+		CircuitBreaker breaker = new CircuitBreaker("test", 1, 1, 50, 200, 1);
+		breaker.onFailure(breaker.tryAcquire());
+		Thread.sleep(250);
+		CircuitBreaker.Permit probe = breaker.tryAcquire();
+		assertThat(probe).isNotNull();
+
+		breaker.onFailure(probe);
+
+		assertThat(breaker.getState()).isEqualTo(State.OPEN);
+		assertThat(breaker.tryAcquire()).isNull();
+	}
+
+	@Test
+	void ignoresOutcomeOfCallStartedBeforeTheBreakerOpened() {
+		CircuitBreaker breaker = new CircuitBreaker("test", 2, 2, 50, 0, 1);
+		CircuitBreaker.Permit slow = breaker.tryAcquire();
+		breaker.onFailure(breaker.tryAcquire());
+		breaker.onFailure(breaker.tryAcquire());
+
+		CircuitBreaker.Permit probe = breaker.tryAcquire();
+		assertThat(probe).isNotNull();
+		breaker.onSuccess(slow);
+		assertThat(breaker.getState()).as("a stale success is not a probe result").isEqualTo(State.HALF_OPEN);
+
+		breaker.onSuccess(probe);
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	void ignoresStaleFailureAfterTheBreakerClosed() {
+		CircuitBreaker breaker = new CircuitBreaker("test", 1, 1, 50, 0, 1);
+		CircuitBreaker.Permit stale = breaker.tryAcquire();
+		breaker.onFailure(breaker.tryAcquire());
+		breaker.onSuccess(breaker.tryAcquire());
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+
+		breaker.onFailure(stale);
+
+		assertThat(breaker.getState()).isEqualTo(State.CLOSED);
+	}
+
+	private static CircuitBreaker openBreaker(int halfOpenProbes) {
+		CircuitBreaker breaker = new CircuitBreaker("test", 1, 1, 50, 0, halfOpenProbes);
+		breaker.onFailure(breaker.tryAcquire());
+		return breaker;
+	}
+}
@@ -0,0 +1,79 @@
+package com.skillsage.service.vector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+import com.skillsage.util.VectorMath;
+
+class HnswIndexTest {
+
+	private static final int DIM = 64;
+
+	@Test
+	void findsTheExactNearestNeighbour() {
+		assertNearestFound(false);
+	}
+
+	@Test
+	void quantizedIndexFindsTheExactNearestNeighbour() {
+		assertNearestFound(true);
+	}
+
+	@Test
+	void excludedCandidateIsSkipped() {
+		HnswIndex index = new HnswIndex(8, 64, 32, false);
+		float[] vector = randomVector(new SplittableRandom(1));
+		index.add(1, 100, vector);
+		index.add(2, 200, randomVector(new SplittableRandom(2)));
+
+		List<HnswIndex.Neighbor> found = index.search(vector, 1, candidate -> candidate == 100);
+
+		assertThat(found).extracting(HnswIndex.Neighbor::embeddingId).containsExactly(2L);
+	}
+
+	private static void assertNearestFound(boolean quantized) {
+		SplittableRandom random = new SplittableRandom(11);
+		HnswIndex index = new HnswIndex(8, 64, 32, quantized);
+		float[][] vectors = new float[300][];
+		for (int i = 0; i < vectors.length; i++) {
+			vectors[i] = randomVector(random);
+			index.add(i, i, vectors[i]);
+		}
+
+		for (int q = 0; q < 20; q++) {
+			float[] query = vectors[random.nextInt(vectors.length)].clone();
+			query[0] += 0.01f;
+			long expected = bruteForceNearest(vectors, query);
+
+			List<HnswIndex.Neighbor> found = index.search(query, 1, candidate -> false);
+
+			assertThat(found).extracting(HnswIndex.Neighbor::embeddingId).containsExactly(expected);
+		}
+	}
+
+	private static long bruteForceNearest(float[][] vectors, float[] query) {
+		float[] normalized = VectorMath.normalize(query);
+		long best = -1;
+		double bestSimilarity = Double.NEGATIVE_INFINITY;
+		for (int i = 0; i < vectors.length; i++) {
+			double similarity = VectorMath.dot(normalized, VectorMath.normalize(vectors[i]));
+			if (similarity > bestSimilarity) {
+				bestSimilarity = similarity;
+				best = i;
+			}
+		}
+		return best;
+	}
+
+	private static float[] randomVector(SplittableRandom random) {
+		float[] vector = new float[DIM];
+		for (int i = 0; i < DIM; i++) {
+			vector[i] = (float) random.nextDouble(-1, 1);
+		}
+		return vector;
+	}
+}
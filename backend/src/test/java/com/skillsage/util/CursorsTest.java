@@ -0,0 +1,68 @@
+package com.skillsage.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import com.skillsage.dto.response.PageResponse;
+import com.skillsage.exception.BadRequestException;
+
+class CursorsTest {
+
+	@Test
+	void encodedCursorDecodesToTheSameId() {
+		assertThat(Cursors.decode(Cursors.encode(42))).isEqualTo(42);
+		assertThat(Cursors.decode(Cursors.encode(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+	}
+
+	@Test
+	void missingCursorStartsAtTheFirstPage() {
+		assertThat(Cursors.decode(null)).isZero();
+		assertThat(Cursors.decode(" ")).isZero();
+	}
+
+	@Test
+	void malformedCursorIsABadRequest() {
+		String wrongPrefix = Base64.getUrlEncoder().encodeToString("offset:10".getBytes(StandardCharsets.UTF_8));
+		String notANumber = Base64.getUrlEncoder().encodeToString("id:ten".getBytes(StandardCharsets.UTF_8));
+
+		for (String cursor : List.of("not base64!", wrongPrefix, notANumber)) {
+			assertThatThrownBy(() -> Cursors.decode(cursor)).isInstanceOf(BadRequestException.class)
+					.hasMessage("Invalid cursor");
+		}
+	}
+
+	@Test
+	void pageSizeIsDefaultedAndClamped() {
+		assertThat(Cursors.pageSize(null)).isEqualTo(Cursors.DEFAULT_PAGE_SIZE);
+		assertThat(Cursors.pageSize(0)).isEqualTo(1);
+		assertThat(Cursors.pageSize(-5)).isEqualTo(1);
+		assertThat(Cursors.pageSize(50)).isEqualTo(50);
+		assertThat(Cursors.pageSize(10_000)).isEqualTo(Cursors.MAX_PAGE_SIZE);
+	}
+
+	@Test
+	void extraRowIsDroppedAndContinuesFromTheLastItem() {
+		PageResponse<String> page = Cursors.page(List.of(3L, 7L, 9L), 2, Function.identity(), id -> "row" + id);
+
+		assertThat(page.getItems()).containsExactly("row3", "row7");
+		assertThat(Cursors.decode(page.getNextCursor())).isEqualTo(7);
+	}
+
+	@Test
+	void lastPageHasNoNextCursor() {
+		PageResponse<String> full = Cursors.page(List.of(3L, 7L), 2, Function.identity(), id -> "row" + id);
+		PageResponse<String> empty = Cursors.page(List.<Long>of(), 2, Function.identity(), id -> "row" + id);
+
+		assertThat(full.getItems()).containsExactly("row3", "row7");
+		assertThat(full.getNextCursor()).isNull();
+		assertThat(empty.getItems()).isEmpty();
+		assertThat(empty.getNextCursor()).isNull();
+	}
+}
@@ -0,0 +1,79 @@
+package com.skillsage.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.util.SplittableRandom;
+
+import org.junit.jupiter.api.Test;
+
+class VectorMathTest {
+
+	// 771 is not a multiple of any vector width, so every kernel runs its tail loop
+	private static final int DIM = 771;
+
+	private final SplittableRandom random = new SplittableRandom(7);
+
+	@Test
+	void batchedDotProductsMatchPairwise() {
+		float[] query = randomVector();
+		float[][] rows = new float[9][];
+		for (int r = 0; r < rows.length; r++) {
+			rows[r] = randomVector();
+		}
+		int[] indices = { 8, 0, 3, 3, 5, 1, 7 };
+		float[] out = new float[indices.length];
+
+		VectorMath.dotMany(query, rows, indices, indices.length, out);
+
+		for (int k = 0; k < indices.length; k++) {
+			assertThat(out[k]).isCloseTo((float) reference(query, rows[indices[k]]), within(1e-3f));
+		}
+	}
+
+	@Test
+	void cosineNeedsNoNormalizedRows() {
+		float[] query = VectorMath.normalize(randomVector());
+		float[] row = randomVector();
+		float[] scaled = new float[DIM];
+		for (int i = 0; i < DIM; i++) {
+			scaled[i] = row[i] * 5f;
+		}
+		float[] out = new float[3];
+
+		VectorMath.cosineMany(query, new float[][] { row, scaled, new float[DIM] }, out);
+
+		assertThat(out[0]).isCloseTo(VectorMath.dot(query, VectorMath.normalize(row)), within(1e-4f));
+		assertThat(out[1]).isCloseTo(out[0], within(1e-4f));
+		assertThat(out[2]).isZero();
+	}
+
+	@Test
+	void int8DotWidensCodes() {
+		float[] query = randomVector();
+		byte[] codes = new byte[DIM];
+		double expected = 0;
+		for (int i = 0; i < DIM; i++) {
+			codes[i] = (byte) random.nextInt(-127, 128);
+			expected += query[i] * codes[i];
+		}
+
+		assertThat((double) VectorMath.dot(query, codes)).isCloseTo(expected, within(1e-1));
+	}
+
+	private float[] randomVector() {
+		float[] vector = new float[DIM];
+		for (int i = 0; i < DIM; i++) {
+			vector[i] = (float) random.nextDouble(-1, 1);
+		}
+		return vector;
+	}
+
+	private static double reference(float[] a, float[] b) {
+		double sum = 0;
+		for (int i = 0; i < a.length; i++) {
+			sum += a[i] * b[i];
+		}
+		return sum;
+	}
+}